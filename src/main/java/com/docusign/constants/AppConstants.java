@@ -14,4 +14,29 @@ public class AppConstants {
     public static final String DEFAULT_TITLE = "Untitled";
     public static final String DEFAULT_DOCUMENT_TITLE = "Document";
     public static final String CONTENT_TYPE_PDF = "application/pdf";
+
+    public static final String EMAIL_STATUS_QUEUED = "queued";
+    public static final String EMAIL_STATUS_SENDING = "sending";
+    public static final String EMAIL_STATUS_SENT = "sent";
+
+    public static final String CAPTURE_STATUS_PENDING = "pending";
+    public static final String CAPTURE_STATUS_COPIED = "copied";
+    public static final String CAPTURE_STATUS_FAILED = "failed";
+
+    public static final String BULK_CHUNK_STATUS_QUEUED = "queued";
+    public static final String BULK_CHUNK_STATUS_RUNNING = "running";
+    public static final String BULK_CHUNK_STATUS_DONE = "done";
+    public static final String BULK_CHUNK_STATUS_FAILED = "failed";
+
+    public static final String BULK_JOB_STATUS_RUNNING = "running";
+    public static final String BULK_JOB_STATUS_COMPLETED = "completed";
+    public static final String BULK_JOB_STATUS_COMPLETED_WITH_ERRORS = "completed_with_errors";
+
+    public static final String FINAL_NOTICE_STATUS_PENDING = "pending";
+    public static final String FINAL_NOTICE_STATUS_SENDING = "sending";
+
+    public static final String EMAIL_TYPE_OTP = "otp";
+    public static final String EMAIL_TYPE_USER_CREATION = "user_creation";
+    public static final String EMAIL_TYPE_DOCUMENT_COMPLETION = "document_completion";
+    public static final String EMAIL_TYPE_FINAL_DOCUMENT = "final_document";
 }
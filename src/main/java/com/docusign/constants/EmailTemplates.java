@@ -70,4 +70,22 @@ public class EmailTemplates {
         Thanks,
         DocuSign Clone Team
         """;
+
+    // FINAL DOCUMENT DIGEST EMAIL (several documents completed within one window)
+    public static final String FINAL_DOCUMENT_DIGEST_SUBJECT = "%s Documents Completed";
+
+    public static final String FINAL_DOCUMENT_DIGEST_BODY_TEMPLATE = """
+        Hello %s,
+
+        The following documents have been signed by all parties:
+
+        %s
+        Thanks,
+        DocuSign Clone Team
+        """;
+
+    public static final String FINAL_DOCUMENT_DIGEST_ITEM_TEMPLATE = """
+        - %s
+          %s
+        """;
 }
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.docusign.entity.User;
 import com.docusign.exception.ResourceNotFoundException;
 import com.docusign.security.JwtService;
+import com.docusign.security.RateLimiter;
 import com.docusign.service.EmailService;
 import com.docusign.service.UserService;
 
@@ -30,6 +31,7 @@ public class AuthController {
     private final UserService userService;
     private final JwtService jwtService;
     private final EmailService emailService;
+    private final RateLimiter rateLimiter;
     
     private static final String USER_NAME = "userName";
     private static final String PASSWORD = "password";
@@ -45,6 +47,7 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<Object> login(@RequestBody Map<String, String> body) {
+        rateLimiter.checkUser(RateLimiter.Route.LOGIN, body.get(USER_NAME));
         Optional<User> user = userService.validateUser(body.get(USER_NAME), body.get(PASSWORD));
         if (user.isPresent()) {
             String token = jwtService.generateToken(user.get());
@@ -59,6 +62,7 @@ public class AuthController {
     @PostMapping("/forgotpassword")
     public ResponseEntity<Object> forgotPassword(@RequestBody Map<String, String> request) {
         String userName = request.get(USER_NAME);
+        rateLimiter.checkUser(RateLimiter.Route.FORGOT_PASSWORD, userName);
         userService.forgotPassword(userName);
         return ResponseEntity.ok("OTP sent to your registered email");
     }
@@ -67,6 +71,7 @@ public class AuthController {
     public ResponseEntity<Object> verifyOtp(@RequestBody Map<String, String> request) {
         String userName = request.get(USER_NAME);
         String otp = request.get("otp");
+        rateLimiter.checkUser(RateLimiter.Route.VERIFY_OTP, userName);
 
         User user = userService.findByUserName(userName)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + userName));
@@ -3,7 +3,9 @@ package com.docusign.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,11 +13,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.docusign.dto.BulkPublishJobStatus;
+import com.docusign.dto.DesignerPage;
 import com.docusign.entity.Designer;
 import com.docusign.exception.ResourceNotFoundException;
 import com.docusign.repository.DesignerRepo;
+import com.docusign.security.JwtService;
+import com.docusign.service.BulkPublishService;
+import com.docusign.service.CompletionProgressBroadcaster;
+import com.docusign.service.ConsolidatedValuesService;
 import com.docusign.service.DesignerService;
 import com.docusign.service.DocumentCompletionService;
 
@@ -32,6 +43,12 @@ public class DesignerController {
     private final DesignerRepo designerRepo;
     private final DesignerService  designerService;
     private final DocumentCompletionService documentCompletionService;
+    private final ConsolidatedValuesService consolidatedValuesService;
+    private final CompletionProgressBroadcaster completionProgressBroadcaster;
+    private final BulkPublishService bulkPublishService;
+    private final JwtService jwtService;
+
+    private static final String NDJSON = "application/x-ndjson";
 
     // 1) create designer (returns designerId)
     @PostMapping
@@ -50,8 +67,11 @@ public class DesignerController {
     // 3) update metadata (after upload/parse)
     @PutMapping("/{id}")
     public ResponseEntity<Designer> updateDesigner(@PathVariable String id, @RequestBody Designer designer) {
-        Designer stored = designerService.updateDesignerDocument(id, designer);
-        return ResponseEntity.ok(stored);
+        try {
+            return ResponseEntity.ok(designerService.updateDesignerDocument(id, designer));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 5) get designer with document view URL
@@ -86,7 +106,6 @@ public class DesignerController {
         }
         // Generate completion tokens and send email
         documentCompletionService.sendCompletionEmails(designer, users);
-        designerRepo.save(designer);
         
         return ResponseEntity.ok(Map.of("message", "Emails sent successfully", "sentTo", users.size()));
     }
@@ -98,14 +117,72 @@ public class DesignerController {
         return ResponseEntity.ok(allValues);
     }
     
+    // Live completion progress for dashboards, instead of polling all-values
+    @GetMapping(value = "/{id}/completions/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCompletionEvents(@PathVariable String id) {
+        Designer designer = designerRepo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Designer not found with id: " + id));
+        return completionProgressBroadcaster.subscribe(designer);
+    }
+
+    // EventSource cannot set headers: it opens the stream above with ?access_token=<this token>
+    @PostMapping("/{id}/completions/events/token")
+    public ResponseEntity<Map<String, String>> issueCompletionEventsToken(@PathVariable String id,
+            Authentication authentication) {
+        if (!designerRepo.existsById(id)) {
+            throw new ResourceNotFoundException("Designer not found with id: " + id);
+        }
+        return ResponseEntity.ok(Map.of("token", jwtService.generateStreamToken(authentication.getName(), id)));
+    }
+
+    @GetMapping(value = "/{id}/completions/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportCompletions(@PathVariable String id) {
+        if (!designerRepo.existsById(id)) {
+            throw new ResourceNotFoundException("Designer not found with id: " + id);
+        }
+        StreamingResponseBody body = out -> documentCompletionService.exportCompletions(id, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @PostMapping("/consolidated-values/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildConsolidatedValues() {
+        int rebuilt = consolidatedValuesService.rebuildAll();
+        return ResponseEntity.ok(Map.of("message", "Consolidated values rebuilt", "rebuiltCount", rebuilt));
+    }
+
+    @GetMapping("/consolidated-values/check")
+    public ResponseEntity<Map<String, Object>> checkConsolidatedValues() {
+        return ResponseEntity.ok(consolidatedValuesService.checkConsistency(false));
+    }
+
+    @PostMapping("/consolidated-values/repair")
+    public ResponseEntity<Map<String, Object>> repairConsolidatedValues() {
+        return ResponseEntity.ok(consolidatedValuesService.checkConsistency(true));
+    }
+
+    // Summaries only, a page at a time; pass nextCursor back as cursor for the next page
     @GetMapping("/all")
-    public ResponseEntity<List<Designer>> getAllDesigners() {
-        return ResponseEntity.ok(designerService.findAll());
+    public ResponseEntity<DesignerPage> getAllDesigners(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(designerService.findAll(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/all/completed")
-    public ResponseEntity<List<Designer>> getAllCompletedDocuments() {
-        return ResponseEntity.ok(designerService.findAllCompletedDocuments());
+    public ResponseEntity<DesignerPage> getAllCompletedDocuments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(designerService.findAllCompletedDocuments(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @DeleteMapping("/{id}")
@@ -126,7 +203,13 @@ public class DesignerController {
         if (targetUsers == null || targetUsers.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("error", "No target users provided"));
         }
+        // Runs as a background job; poll the job status for progress
         Map<String, Object> result = designerService.bulkPublish(id, targetUsers);
-        return ResponseEntity.ok(result);
+        return ResponseEntity.accepted().body(result);
+    }
+
+    @GetMapping("/bulk-publish/jobs/{jobId}")
+    public ResponseEntity<BulkPublishJobStatus> getBulkPublishJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkPublishService.getJobStatus(jobId));
     }
 }
@@ -1,25 +1,29 @@
 package com.docusign.controller;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.DocumentOpenView;
+import com.docusign.dto.SubmissionPayload;
 import com.docusign.entity.DocumentCompletion;
-import com.docusign.entity.User;
-import com.docusign.repository.UserRepo;
+import com.docusign.exception.PayloadTooLargeException;
 import com.docusign.security.JwtService;
 import com.docusign.service.DocumentCompletionService;
+import com.docusign.service.SubmissionReader;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,42 +35,49 @@ public class DocumentController {
 
     private final DocumentCompletionService completionService;
     private final JwtService jwtService;
-    private final UserRepo userRepo;
+    private final SubmissionReader submissionReader;
 
     private static final String ERROR = "error";
     // Submit completed document
     @PostMapping("/{id}/submit")
     public ResponseEntity<Map<String, Object>> submitDocument(
             @PathVariable String id,
-            @RequestBody Map<String, Object> body
+            HttpServletRequest request
     ) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> fieldValues =
-                (Map<String, Object>) body.get("fieldValues");
+        // Parsed as a stream so large embedded images never sit in memory whole
+        try (SubmissionPayload submission =
+                     submissionReader.read(request.getInputStream(), request.getContentLengthLong())) {
 
-        String token = (String) body.get("token");
-        String userId = (String) body.get("userId");
-
-        if (token == null || userId == null) {
-            log.warn("Submission failed for designer {}: Token or userId missing", id);
-            return ResponseEntity.badRequest()
-                    .body(Map.of(ERROR, "Token and userId are required"));
-        }
+            if (submission.token() == null || submission.userId() == null) {
+                log.warn("Submission failed for designer {}: Token or userId missing", id);
+                return ResponseEntity.badRequest()
+                        .body(Map.of(ERROR, "Token and userId are required"));
+            }
 
-        try {
-            String captureKey =
+            String userId = submission.userId();
+            DocumentCompletion completion =
                     completionService.saveCompletedDocument(
                             id,
                             userId,
-                            fieldValues,
-                            token
+                            submission.fieldValues(),
+                            submission.token()
                     );
 
             log.info("Document {} submitted successfully by user {}", id, userId);
-            return ResponseEntity.ok(Map.of(
-                    "message", "Document submitted successfully",
-                    "captureKey", captureKey
-            ));
+            // captureKey is content-addressed, so it stays null until the capture
+            // copy finishes; a resubmission after that returns it
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("message", "Document submitted successfully");
+            body.put("captureKey", completion.getCaptureKey());
+            body.put("completionId", completion.getId());
+            body.put("captureStatus", completion.getCaptureStatus() != null
+                    ? completion.getCaptureStatus()
+                    : AppConstants.CAPTURE_STATUS_PENDING);
+            return ResponseEntity.ok(body);
+        } catch (PayloadTooLargeException e) {
+            log.warn("Submission for designer {} rejected: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(Map.of(ERROR, e.getMessage()));
         } catch (Exception e) {
             log.error("Error submitting document {}: ", id, e);
             return ResponseEntity.badRequest()
@@ -78,29 +89,22 @@ public class DocumentController {
     @GetMapping("/complete/{doctoken}")
     public ResponseEntity<Map<String, Object>> getDocumentByToken(@PathVariable String doctoken) {
         try {
-            Map<String, Object> response =
-                    completionService.getDocumentForCompletion(doctoken);
+            DocumentOpenView view = completionService.openDocument(doctoken);
+            String currentUserId = view.currentUserId();
 
-            String currentUserId = (String) response.get("currentUserId");
-            
-            // Refetch completion to check isExternal status saved in DB
-            DocumentCompletion completion = completionService.getCompletionByToken(doctoken);
-            
-            String token = null;
-            if (completion.isExternal()) {
+            String token;
+            if (view.external()) {
                 log.info("Processing External User token generation for token {}", doctoken);
                 token = jwtService.generateTokenForExternalUser(currentUserId, doctoken);
             } else {
                 log.info("Processing Internal User token generation");
-                User louser = userRepo.findById(currentUserId)
-                        .orElseThrow(() -> new UsernameNotFoundException("User not found: " + currentUserId));
-                token = jwtService.generateToken(louser);
+                token = jwtService.generateToken(view.user());
             }
             
             log.info("Token generated for user {} accessing document via token {}", currentUserId, doctoken);
             return ResponseEntity.ok()
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .body(Map.of("token", token, "response", response));
+                    .body(Map.of("token", token, "response", view));
 
         } catch (Exception e) {
             log.error("Failed to fetch document for token {}: ", doctoken, e);
@@ -0,0 +1,44 @@
+package com.docusign.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.docusign.entity.EmailDeadLetter;
+import com.docusign.service.DeadLetterReplayer;
+import com.docusign.service.EmailService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/emails")
+@RequiredArgsConstructor
+public class EmailController {
+
+    private final EmailService emailService;
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<EmailDeadLetter>> getDeadLetters() {
+        return ResponseEntity.ok(emailService.findDeadLetters());
+    }
+
+    @PostMapping("/dead-letters/{id}/replay")
+    public ResponseEntity<Map<String, Object>> replayDeadLetter(@PathVariable String id) {
+        boolean queued = deadLetterReplayer.replay(id);
+        String message = queued ? "Email queued for delivery" : "Email no longer valid; dead letter dropped";
+        return ResponseEntity.ok(Map.of("message", message, "id", id, "queued", queued));
+    }
+
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Object>> replayAllDeadLetters() {
+        int replayed = deadLetterReplayer.replayAll();
+        return ResponseEntity.ok(Map.of("message", "Dead letters queued for delivery", "replayed", replayed));
+    }
+}
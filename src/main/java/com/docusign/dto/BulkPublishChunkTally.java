@@ -0,0 +1,12 @@
+package com.docusign.dto;
+
+/**
+ * Chunks of one bulk publish job in one status, with the users they cloned
+ * and skipped.
+ */
+public record BulkPublishChunkTally(
+        String status,
+        int chunks,
+        int clonedCount,
+        int failedCount
+) {}
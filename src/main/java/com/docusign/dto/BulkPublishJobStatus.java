@@ -0,0 +1,22 @@
+package com.docusign.dto;
+
+import java.time.Instant;
+
+/**
+ * Progress of a bulk publish job. {@code failedUsers} are users skipped
+ * without a clone, for example for lack of an email address;
+ * {@code failedChunks} gave up after repeated errors and their users were
+ * not all processed.
+ */
+public record BulkPublishJobStatus(
+        String jobId,
+        String designerId,
+        String status,
+        int totalUsers,
+        int totalChunks,
+        int completedChunks,
+        int failedChunks,
+        int clonedCount,
+        int failedUsers,
+        Instant createdAt
+) {}
@@ -0,0 +1,8 @@
+package com.docusign.dto;
+
+public record CompletionEmail(
+        String email,
+        String userName,
+        String documentTitle,
+        String completionLink
+) {}
@@ -0,0 +1,18 @@
+package com.docusign.dto;
+
+import java.time.Instant;
+
+/**
+ * Published in-process when a recipient's submission is recorded.
+ * {@code completedCount} and {@code expectedCompletions} are null for
+ * designers without recipients or published before the counters existed.
+ */
+public record CompletionProgressEvent(
+        String designerId,
+        String completionId,
+        String userId,
+        Integer completedCount,
+        Integer expectedCompletions,
+        boolean designerCompleted,
+        Instant completedAt
+) {}
@@ -0,0 +1,13 @@
+package com.docusign.dto;
+
+import java.util.List;
+
+/**
+ * One page of designers, most recently updated first. Pass
+ * {@code nextCursor} back as {@code cursor} for the next page; it is null on
+ * the last page.
+ */
+public record DesignerPage(
+        List<DesignerSummary> items,
+        String nextCursor
+) {}
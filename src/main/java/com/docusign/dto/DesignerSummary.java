@@ -0,0 +1,20 @@
+package com.docusign.dto;
+
+import java.time.Instant;
+
+/**
+ * A designer as listed on the dashboard: everything except its fields and
+ * recipients, which can be large and are only needed once it is opened.
+ */
+public record DesignerSummary(
+        String id,
+        String title,
+        String status,
+        String type,
+        int pages,
+        String ownerUserId,
+        Integer expectedCompletions,
+        Integer completedCount,
+        Instant createdAt,
+        Instant updatedAt
+) {}
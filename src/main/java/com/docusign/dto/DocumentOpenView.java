@@ -0,0 +1,27 @@
+package com.docusign.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.docusign.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Everything the completion page needs when a recipient opens their link.
+ * {@code external} and {@code user} are for issuing the session token and are
+ * not sent to the client; {@code user} is null for external recipients.
+ */
+public record DocumentOpenView(
+        String designerId,
+        String title,
+        List<Map<String, Object>> fields,
+        String currentUserId,
+        String token,
+        String viewUrl,
+        String status,
+        Map<String, Object> consolidatedData,
+        @JsonIgnore
+        boolean external,
+        @JsonIgnore
+        User user
+) {}
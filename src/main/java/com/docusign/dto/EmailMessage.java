@@ -0,0 +1,8 @@
+package com.docusign.dto;
+
+public record EmailMessage(
+        String id,
+        String to,
+        String subject,
+        String text
+) {}
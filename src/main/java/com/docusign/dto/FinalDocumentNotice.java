@@ -0,0 +1,6 @@
+package com.docusign.dto;
+
+public record FinalDocumentNotice(
+        String documentTitle,
+        String finalLink
+) {}
@@ -0,0 +1,15 @@
+package com.docusign.dto;
+
+import java.nio.file.Path;
+
+/**
+ * A binary field value decoded to a temp file while the submission was
+ * parsed, instead of being held in memory. {@code sha256} is of the decoded
+ * bytes.
+ */
+public record SpilledFieldValue(
+        Path file,
+        String contentType,
+        long size,
+        String sha256
+) {}
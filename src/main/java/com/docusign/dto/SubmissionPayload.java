@@ -0,0 +1,32 @@
+package com.docusign.dto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+/**
+ * A parsed document submission. Large binary field values are
+ * {@link SpilledFieldValue}s; closing the payload deletes their temp files.
+ */
+public record SubmissionPayload(
+        String token,
+        String userId,
+        Map<String, Object> fieldValues
+) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        if (fieldValues == null) {
+            return;
+        }
+        for (Object value : fieldValues.values()) {
+            if (value instanceof SpilledFieldValue spilled) {
+                try {
+                    Files.deleteIfExists(spilled.file());
+                } catch (IOException e) {
+                    spilled.file().toFile().deleteOnExit();
+                }
+            }
+        }
+    }
+}
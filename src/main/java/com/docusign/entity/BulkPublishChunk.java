@@ -0,0 +1,51 @@
+package com.docusign.entity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A slice of a {@link BulkPublishJob}'s users, claimed and processed by one
+ * BulkPublishWorker at a time. Clone ids are derived from the chunk id and
+ * the user's position in it, so a chunk that is retried after a crash finds
+ * the clones its earlier attempt already wrote.
+ */
+@Document(collection = "bulk_publish_chunks")
+@CompoundIndexes({
+    @CompoundIndex(name = "bulk_chunk_claim", def = "{'status': 1, '_id': 1}"),
+    @CompoundIndex(name = "bulk_chunk_lease", def = "{'status': 1, 'claimedAt': 1}"),
+    @CompoundIndex(name = "bulk_chunk_job", def = "{'jobId': 1, 'status': 1}")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPublishChunk {
+    @Id
+    private String id;
+    private String jobId;
+    private String designerId;
+    private int chunkIndex;
+    private List<Map<String, Object>> users;
+
+    private String status;
+    private String claimedBy;
+    private Instant claimedAt;
+    private int attempts;
+    private String lastError;
+
+    // Set when the chunk is done
+    private int clonedCount;
+    private int failedCount;
+    private Instant finishedAt;
+}
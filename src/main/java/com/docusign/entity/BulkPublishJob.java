@@ -0,0 +1,28 @@
+package com.docusign.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A bulk publish of one designer to many users. The work itself lives in its
+ * {@link BulkPublishChunk}s; progress is read from their states, so the job
+ * document is written once and never needs to be kept in step.
+ */
+@Document(collection = "bulk_publish_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPublishJob extends BaseAuditEntity {
+    @Id
+    private String id;
+    private String designerId;
+    private int totalUsers;
+    private int totalChunks;
+    private int chunkSize;
+}
@@ -0,0 +1,94 @@
+package com.docusign.entity;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Merged non-empty field values of every completion of a designer, keyed by
+ * designer id. Each submission $sets its fields into {@code values}; a later
+ * submission of the same field wins.
+ *
+ * <p>Field ids are stored with {@code .}, {@code $} and {@code %}
+ * percent-encoded so a submitted key can never address a nested path;
+ * {@link #decodeKeys} restores them on read.
+ */
+@Document(collection = "consolidated_values")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidatedValues {
+    @Id
+    private String designerId;
+    private Map<String, Object> values = new HashMap<>();
+    // False until the document has been built from all completions; until then
+    // it only holds the submissions merged since it was created
+    private boolean complete;
+    private Instant updatedAt;
+    // Bumped by every write, so a rebuild can tell whether a submission
+    // landed while it was reading the completions
+    private long revision;
+
+    public static String encodeKey(String key) {
+        if (key.indexOf('%') < 0 && key.indexOf('.') < 0 && key.indexOf('$') < 0) {
+            return key;
+        }
+        StringBuilder encoded = new StringBuilder(key.length() + 8);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            switch (c) {
+                case '%' -> encoded.append("%25");
+                case '.' -> encoded.append("%2E");
+                case '$' -> encoded.append("%24");
+                default -> encoded.append(c);
+            }
+        }
+        return encoded.toString();
+    }
+
+    public static String decodeKey(String key) {
+        if (key.indexOf('%') < 0) {
+            return key;
+        }
+        StringBuilder decoded = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            char escaped = c == '%' && i + 2 < key.length() ? unescape(key.substring(i + 1, i + 3)) : 0;
+            if (escaped != 0) {
+                decoded.append(escaped);
+                i += 2;
+            } else {
+                decoded.append(c);
+            }
+        }
+        return decoded.toString();
+    }
+
+    private static char unescape(String code) {
+        return switch (code) {
+            case "25" -> '%';
+            case "2E" -> '.';
+            case "24" -> '$';
+            default -> 0;
+        };
+    }
+
+    public static Map<String, Object> encodeKeys(Map<String, Object> values) {
+        Map<String, Object> encoded = new HashMap<>();
+        values.forEach((key, value) -> encoded.put(encodeKey(key), value));
+        return encoded;
+    }
+
+    public static Map<String, Object> decodeKeys(Map<String, Object> values) {
+        Map<String, Object> decoded = new HashMap<>();
+        values.forEach((key, value) -> decoded.put(decodeKey(key), value));
+        return decoded;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +17,8 @@ import lombok.NoArgsConstructor;
 
 
 @Document(collection = "designers")
+// Dashboard listing: equality on status, then keyset order on (updatedAt, _id)
+@CompoundIndex(name = "designer_status_updated", def = "{'status': 1, 'updatedAt': -1, '_id': -1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +26,7 @@ import lombok.NoArgsConstructor;
 public class Designer extends BaseAuditEntity {
     @Id
     private String id; // designerId (uuid)
+    @Indexed(name = "designer_title")
     private String title;
     private String ownerUserId;
     private String s3Key; // set after upload
@@ -37,4 +42,11 @@ public class Designer extends BaseAuditEntity {
     @Default
     private String type = "Document";
 
+    // Maintained with atomic updates by DesignerRepoCustom; null on designers
+    // published before the counters existed
+    private Integer expectedCompletions;
+    private Integer completedCount;
+    // Completions already in completedCount, so a retried count is not added twice
+    private List<String> countedCompletionIds;
+
 }
@@ -4,6 +4,9 @@ import java.time.Instant;
 import java.util.Map;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -13,6 +16,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "document_completions")
+// Serves findByDesignerId, countByDesignerIdAndStatus and findByDesignerIdAndUserId
+@CompoundIndex(name = "completion_designer_status", def = "{'designerId': 1, 'status': 1}")
+// Serves the capture recovery sweep
+@CompoundIndex(name = "completion_capture_claim", def = "{'captureStatus': 1, 'captureClaimedAt': 1}")
+// Serves the follow-up sweep
+@CompoundIndex(name = "completion_counted", def = "{'countedAt': 1, 'completedAt': 1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,15 +29,33 @@ import lombok.NoArgsConstructor;
 public class DocumentCompletion extends BaseAuditEntity {
     @Id
     private String id;
+    // Null on completions created before versioning; status changes go through
+    // DocumentCompletionRepoCustom, which bumps it
+    @Version
+    private Long version;
     private String designerId;
+    @Indexed(name = "completion_user")
     private String userId;
     
     @JsonProperty("isExternal")
     private boolean isExternal;
     
+    @Indexed(name = "completion_token", unique = true)
     private String token;
     private String status;
     private Map<String, Object> fieldValues;
     private String captureKey;
+
+    // Copy of the designer document into captureKey, run after the submission is saved
+    private String captureStatus;
+    private String captureSourceKey;
+    private Instant captureClaimedAt;
+    private Integer captureAttempts;
+    private String captureError;
     private Instant completedAt;
+    // Null (not missing) from submission until the completed count and
+    // consolidated values include this completion; the follow-up sweep
+    // retries completions still null. Missing on completions counted before
+    // the flag existed.
+    private Instant countedAt;
 }
@@ -0,0 +1,33 @@
+package com.docusign.entity;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Document(collection = "email_dead_letters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailDeadLetter extends BaseAuditEntity {
+    @Id
+    private String id; // hex id of the outbox row it was moved from
+    private String email;
+    private String type;
+    private String subject;
+    // Null for OTP and user-creation mail, whose bodies carry secrets; replay regenerates those
+    private String body;
+    private LocalDateTime expiresAt;
+    private int attempts;
+    private String lastError;
+    @Indexed(name = "dead_letter_failed_at")
+    private Instant failedAt;
+}
@@ -4,21 +4,48 @@ import lombok.Data;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Data
 @Document(collection = "emails")
+@CompoundIndexes({
+    @CompoundIndex(name = "outbox_status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}"),
+    @CompoundIndex(name = "outbox_status_claimed_at", def = "{'status': 1, 'claimedAt': 1}"),
+    // Latest unused OTP per address, and active OTPs reloaded at startup
+    @CompoundIndex(name = "otp_latest_by_email", def = "{'email': 1, 'type': 1, 'used': 1, 'createdAt': -1}"),
+    @CompoundIndex(name = "otp_active_by_type", def = "{'type': 1, 'used': 1, 'expiresAt': 1}")
+})
 public class EmailQueue extends BaseAuditEntity {
 	@Id
     private ObjectId objectId; 
     private String id;
     private String email;
     private String otp;
+    // TTL: Mongo removes OTP rows once they expire; rows without the field are kept
+    @Indexed(name = "otp_expiry_ttl", expireAfter = "0s")
     private LocalDateTime expiresAt;
+    // Partial index holding only used rows, so the periodic bulk delete never scans
+    @Indexed(name = "otp_used", partialFilter = "{ 'used': true }")
     private boolean used;
     private String subject;
+
+    // Outbox state, drained by EmailDispatcher
+    private String type;
+    private String body;
+    private String status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String claimedBy;
+    private Instant claimedAt;
+    @Indexed(name = "outbox_sent_retention_ttl", expireAfter = "7d")
+    private Instant sentAt;
+    private String lastError;
     
     public void setId(ObjectId objectId) {
         this.objectId = objectId;
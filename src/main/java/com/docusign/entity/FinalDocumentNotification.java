@@ -0,0 +1,47 @@
+package com.docusign.entity;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One recipient's notice that a designer's final document is ready, waiting
+ * to go out in that recipient's next digest. The id is derived from the
+ * designer and the address, so notifying the same completion twice stores
+ * one notice.
+ */
+@Document(collection = "final_document_notifications")
+@CompoundIndexes({
+    @CompoundIndex(name = "final_notice_due", def = "{'status': 1, 'email': 1, 'createdAt': 1}"),
+    @CompoundIndex(name = "final_notice_lease", def = "{'status': 1, 'claimedAt': 1}")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FinalDocumentNotification {
+    @Id
+    private String id;
+    private String email;
+    private String userName;
+    private String designerId;
+    private String documentTitle;
+    private String finalLink;
+    private Instant createdAt;
+
+    private String status;
+    private String claimedBy;
+    private Instant claimedAt;
+
+    public static String idFor(String designerId, String email) {
+        return designerId + ":" + email;
+    }
+}
@@ -0,0 +1,22 @@
+package com.docusign.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Highest "(n)" suffix handed out for a designer base title, where the bare
+ * title counts as 0 and -1 means none is taken yet. Only ever moves up.
+ */
+@Document(collection = "title_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleCounter {
+    @Id
+    private String baseTitle;
+    private long lastSuffix;
+}
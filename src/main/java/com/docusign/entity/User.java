@@ -29,6 +29,7 @@ public class User extends BaseAuditEntity {
     private String lastName;
     private String role;
     private String id;
+    @Indexed(name = "user_email")
     private String email;
     
     @JsonProperty("isFirstTimeLogin")
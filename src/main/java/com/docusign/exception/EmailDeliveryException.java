@@ -0,0 +1,40 @@
+package com.docusign.exception;
+
+public class EmailDeliveryException extends RuntimeException {
+
+    private final boolean retryable;
+    private final int statusCode;
+
+    public EmailDeliveryException(String message) {
+        this(message, true);
+    }
+
+    public EmailDeliveryException(String message, boolean retryable) {
+        this(message, 0, retryable);
+    }
+
+    public EmailDeliveryException(String message, int statusCode, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+        this.statusCode = statusCode;
+    }
+
+    public EmailDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryable = true;
+        this.statusCode = 0;
+    }
+
+    /**
+     * False when the provider rejected the request itself (e.g. an invalid
+     * address), so sending it again cannot succeed.
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    /** HTTP status returned by the provider, or 0 if no response was received. */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,35 @@
+package com.docusign.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.docusign.dto.BulkPublishChunkTally;
+import com.docusign.entity.BulkPublishChunk;
+
+public interface BulkPublishChunkRepoCustom {
+
+    /** Inserts all chunks of a job in unordered bulk writes. */
+    void insertAllUnordered(List<BulkPublishChunk> chunks);
+
+    /**
+     * Atomically claims the oldest queued chunk for {@code workerId}, bumping
+     * its attempt count. Returns null when nothing is queued.
+     */
+    BulkPublishChunk claimNext(String workerId, Instant now);
+
+    void markDone(String id, String workerId, int clonedCount, int failedCount, Instant now);
+
+    /** Puts a chunk whose attempt failed back in the queue. */
+    void markRetry(String id, String workerId, String error);
+
+    void markFailed(String id, String workerId, String error, Instant now);
+
+    /**
+     * Requeues running chunks claimed at or before {@code claimedBefore},
+     * whose worker is presumed dead. Returns how many were released.
+     */
+    long releaseStaleClaims(Instant claimedBefore);
+
+    /** The job's chunks counted per status. */
+    List<BulkPublishChunkTally> tallyByJob(String jobId);
+}
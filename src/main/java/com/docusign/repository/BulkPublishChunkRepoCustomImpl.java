@@ -0,0 +1,107 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.BulkPublishChunkTally;
+import com.docusign.entity.BulkPublishChunk;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BulkPublishChunkRepoCustomImpl implements BulkPublishChunkRepoCustom {
+
+    private static final String ID = "_id";
+    private static final String STATUS = "status";
+    private static final String LAST_ERROR = "lastError";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void insertAllUnordered(List<BulkPublishChunk> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, BulkPublishChunk.class)
+                .insert(chunks)
+                .execute();
+    }
+
+    @Override
+    public BulkPublishChunk claimNext(String workerId, Instant now) {
+        return mongoTemplate.findAndModify(
+                new Query(where(STATUS).is(AppConstants.BULK_CHUNK_STATUS_QUEUED))
+                        .with(Sort.by(Sort.Direction.ASC, ID)),
+                LeaseGuard.claim(AppConstants.BULK_CHUNK_STATUS_RUNNING, workerId, now).inc("attempts", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                BulkPublishChunk.class);
+    }
+
+    @Override
+    public void markDone(String id, String workerId, int clonedCount, int failedCount, Instant now) {
+        mongoTemplate.updateFirst(
+                LeaseGuard.claimedBy(id, workerId),
+                LeaseGuard.release(new Update()
+                        .set(STATUS, AppConstants.BULK_CHUNK_STATUS_DONE)
+                        .set("clonedCount", clonedCount)
+                        .set("failedCount", failedCount)
+                        .set("finishedAt", now)
+                        .unset(LAST_ERROR)),
+                BulkPublishChunk.class);
+    }
+
+    @Override
+    public void markRetry(String id, String workerId, String error) {
+        mongoTemplate.updateFirst(
+                LeaseGuard.claimedBy(id, workerId),
+                LeaseGuard.release(new Update()
+                        .set(STATUS, AppConstants.BULK_CHUNK_STATUS_QUEUED)
+                        .set(LAST_ERROR, error)),
+                BulkPublishChunk.class);
+    }
+
+    @Override
+    public void markFailed(String id, String workerId, String error, Instant now) {
+        mongoTemplate.updateFirst(
+                LeaseGuard.claimedBy(id, workerId),
+                LeaseGuard.release(new Update()
+                        .set(STATUS, AppConstants.BULK_CHUNK_STATUS_FAILED)
+                        .set(LAST_ERROR, error)
+                        .set("finishedAt", now)),
+                BulkPublishChunk.class);
+    }
+
+    @Override
+    public long releaseStaleClaims(Instant claimedBefore) {
+        return LeaseGuard.releaseStale(mongoTemplate, BulkPublishChunk.class, AppConstants.BULK_CHUNK_STATUS_RUNNING,
+                claimedBefore, new Update().set(STATUS, AppConstants.BULK_CHUNK_STATUS_QUEUED));
+    }
+
+    @Override
+    public List<BulkPublishChunkTally> tallyByJob(String jobId) {
+        return mongoTemplate.aggregate(
+                newAggregation(
+                        match(where("jobId").is(jobId)),
+                        group(STATUS)
+                                .count().as("chunks")
+                                .sum("clonedCount").as("clonedCount")
+                                .sum("failedCount").as("failedCount"),
+                        project("chunks", "clonedCount", "failedCount").and(STATUS).previousOperation()),
+                BulkPublishChunk.class,
+                BulkPublishChunkTally.class).getMappedResults();
+    }
+}
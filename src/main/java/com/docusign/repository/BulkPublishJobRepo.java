@@ -0,0 +1,8 @@
+package com.docusign.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.docusign.entity.BulkPublishJob;
+
+public interface BulkPublishJobRepo extends MongoRepository<BulkPublishJob, String> {
+}
@@ -0,0 +1,8 @@
+package com.docusign.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.docusign.entity.ConsolidatedValues;
+
+public interface ConsolidatedValuesRepo extends MongoRepository<ConsolidatedValues, String>, ConsolidatedValuesRepoCustom {
+}
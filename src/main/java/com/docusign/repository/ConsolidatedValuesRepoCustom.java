@@ -0,0 +1,16 @@
+package com.docusign.repository;
+
+import java.util.Map;
+
+public interface ConsolidatedValuesRepoCustom {
+
+    /** Upserts only the given fields into the designer's values. */
+    void mergeValues(String designerId, Map<String, Object> values);
+
+    /**
+     * Replaces the designer's values and marks the document complete, unless
+     * it has been written since it was read at {@code expectedRevision}.
+     * Returns false if it has.
+     */
+    boolean replaceValues(String designerId, Map<String, Object> values, long expectedRevision);
+}
@@ -0,0 +1,61 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.entity.ConsolidatedValues;
+import com.mongodb.client.result.UpdateResult;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ConsolidatedValuesRepoCustomImpl implements ConsolidatedValuesRepoCustom {
+
+    private static final String VALUES = "values";
+    private static final String COMPLETE = "complete";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String REVISION = "revision";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void mergeValues(String designerId, Map<String, Object> values) {
+        Update update = new Update().set(UPDATED_AT, Instant.now()).inc(REVISION, 1);
+        values.forEach((key, value) -> update.set(VALUES + "." + ConsolidatedValues.encodeKey(key), value));
+        mongoTemplate.upsert(byId(designerId), update, ConsolidatedValues.class);
+    }
+
+    @Override
+    public boolean replaceValues(String designerId, Map<String, Object> values, long expectedRevision) {
+        // Documents written before revisions were tracked have none, which reads as 0
+        List<Long> revisions = expectedRevision == 0 ? Arrays.asList(0L, null) : List.of(expectedRevision);
+        Query query = new Query(where("_id").is(designerId).and(REVISION).in(revisions));
+        try {
+            UpdateResult result = mongoTemplate.upsert(
+                    query,
+                    new Update()
+                            .set(VALUES, ConsolidatedValues.encodeKeys(values))
+                            .set(COMPLETE, true)
+                            .set(UPDATED_AT, Instant.now())
+                            .inc(REVISION, 1),
+                    ConsolidatedValues.class);
+            return result.getMatchedCount() > 0 || result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            // The document exists at another revision, so the upsert tried to insert it
+            return false;
+        }
+    }
+
+    private Query byId(String designerId) {
+        return new Query(where("_id").is(designerId));
+    }
+}
@@ -0,0 +1,59 @@
+package com.docusign.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.docusign.dto.DesignerSummary;
+import com.docusign.entity.Designer;
+
+public interface DesignerRepoCustom {
+
+    void setExpectedCompletions(String designerId, int expectedCompletions);
+
+    /**
+     * Inserts all designers in unordered bulk writes. Designers whose id is
+     * already stored are left as they are instead of failing the batch, so a
+     * partially written batch can simply be inserted again.
+     */
+    void insertAllUnordered(List<Designer> designers);
+
+    /**
+     * Atomically counts {@code completionId} as one more completed recipient,
+     * unless it has been counted already, and returns the designer as it is
+     * afterwards, or null if it does not exist.
+     */
+    Designer incrementCompletedCount(String designerId, String completionId);
+
+    /**
+     * Moves the designer to completed unless it already is. Returns true only
+     * for the caller that made the transition.
+     */
+    boolean markCompleted(String designerId);
+
+    void updateStatus(String designerId, String status);
+
+    /**
+     * Sets only the given top-level fields, plus {@code updatedAt}, and
+     * returns the designer as it is after the update, or null if it does not
+     * exist.
+     */
+    Designer updateFields(String designerId, Map<String, Object> fields);
+
+    /**
+     * Titles equal to {@code baseTitle} or to {@code baseTitle} followed by a
+     * " (n)" suffix, read from the title index alone.
+     */
+    List<String> findTitlesWithBase(String baseTitle);
+
+    /**
+     * Up to {@code limit} summaries of designers in {@code statuses}, newest
+     * {@code updatedAt} first with ties broken by id; designers without
+     * {@code updatedAt} come last, by id. When {@code idBefore} is set, only
+     * designers ordered after ({@code updatedBefore}, {@code idBefore}) are
+     * returned, where a null {@code updatedBefore} is a position among the
+     * designers without {@code updatedAt}.
+     */
+    List<DesignerSummary> findSummaries(Collection<String> statuses, Instant updatedBefore, String idBefore, int limit);
+}
@@ -0,0 +1,171 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.DesignerSummary;
+import com.docusign.entity.Designer;
+
+import lombok.RequiredArgsConstructor;
+
+// Targeted updates only: a full save() replaces the document and would reset
+// counters that signers increment concurrently.
+@RequiredArgsConstructor
+public class DesignerRepoCustomImpl implements DesignerRepoCustom {
+
+    private static final String ID = "_id";
+    private static final String STATUS = "status";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String COUNTED_COMPLETION_IDS = "countedCompletionIds";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void setExpectedCompletions(String designerId, int expectedCompletions) {
+        mongoTemplate.updateFirst(
+                new Query(where(ID).is(designerId)),
+                new Update().set("expectedCompletions", expectedCompletions),
+                Designer.class);
+    }
+
+    @Override
+    public void insertAllUnordered(List<Designer> designers) {
+        if (designers.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Designer.class)
+                    .insert(designers)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Designer incrementCompletedCount(String designerId, String completionId) {
+        // The count and the id go in with one update, so a retry either sees the id or does both
+        Designer counted = mongoTemplate.findAndModify(
+                new Query(where(ID).is(designerId).and(COUNTED_COMPLETION_IDS).ne(completionId)),
+                new Update()
+                        .inc("completedCount", 1)
+                        .addToSet(COUNTED_COMPLETION_IDS, completionId),
+                FindAndModifyOptions.options().returnNew(true),
+                Designer.class);
+        return counted != null ? counted : mongoTemplate.findById(designerId, Designer.class);
+    }
+
+    @Override
+    public boolean markCompleted(String designerId) {
+        return mongoTemplate.updateFirst(
+                new Query(where(ID).is(designerId).and(STATUS).ne(AppConstants.STATUS_COMPLETED)),
+                new Update()
+                        .set(STATUS, AppConstants.STATUS_COMPLETED)
+                        .set(UPDATED_AT, Instant.now()),
+                Designer.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void updateStatus(String designerId, String status) {
+        mongoTemplate.updateFirst(
+                new Query(where(ID).is(designerId)),
+                new Update()
+                        .set(STATUS, status)
+                        .set(UPDATED_AT, Instant.now()),
+                Designer.class);
+    }
+
+    @Override
+    public Designer updateFields(String designerId, Map<String, Object> fields) {
+        Update update = new Update().set(UPDATED_AT, Instant.now());
+        fields.forEach(update::set);
+        return mongoTemplate.findAndModify(
+                new Query(where(ID).is(designerId)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Designer.class);
+    }
+
+    @Override
+    public List<String> findTitlesWithBase(String baseTitle) {
+        // A plain anchored prefix, so the match is a bounded scan of designer_title
+        Query query = new Query(where("title").regex("^" + escapeRegex(baseTitle) + "( \\(\\d+\\))?$"));
+        query.fields().include("title").exclude(ID);
+        return mongoTemplate.find(query, Designer.class).stream()
+                .map(Designer::getTitle)
+                .toList();
+    }
+
+    @Override
+    public List<DesignerSummary> findSummaries(Collection<String> statuses, Instant updatedBefore, String idBefore,
+            int limit) {
+        if (idBefore != null && updatedBefore == null) {
+            return findUndatedSummaries(statuses, idBefore, limit);
+        }
+
+        Criteria criteria = where(STATUS).in(statuses);
+        if (updatedBefore != null) {
+            // (updatedAt, _id) < (updatedBefore, idBefore): the range bounds the
+            // index scan, the $nor drops the already returned ties at its edge
+            criteria.and(UPDATED_AT).lte(updatedBefore)
+                    .norOperator(where(UPDATED_AT).is(updatedBefore).and(ID).gte(idBefore));
+        }
+        List<DesignerSummary> rows = findSummaries(new Query(criteria), limit);
+
+        // The range above stops at the dated designers; the undated ones
+        // follow them, read as their own range only on the page that needs them
+        if (updatedBefore != null && rows.size() < limit) {
+            List<DesignerSummary> page = new ArrayList<>(rows);
+            page.addAll(findUndatedSummaries(statuses, null, limit - rows.size()));
+            return page;
+        }
+        return rows;
+    }
+
+    private List<DesignerSummary> findUndatedSummaries(Collection<String> statuses, String idBefore, int limit) {
+        Criteria criteria = where(STATUS).in(statuses).and(UPDATED_AT).is(null);
+        if (idBefore != null) {
+            criteria.and(ID).lt(idBefore);
+        }
+        return findSummaries(new Query(criteria), limit);
+    }
+
+    private List<DesignerSummary> findSummaries(Query query, int limit) {
+        query.with(Sort.by(Sort.Direction.DESC, UPDATED_AT, ID)).limit(limit);
+        query.fields().include("title", STATUS, "type", "pages", "ownerUserId",
+                "expectedCompletions", "completedCount", "createdAt", UPDATED_AT);
+        return mongoTemplate.query(Designer.class)
+                .as(DesignerSummary.class)
+                .matching(query)
+                .all();
+    }
+
+    private static String escapeRegex(String literal) {
+        StringBuilder escaped = new StringBuilder(literal.length() + 8);
+        for (char c : literal.toCharArray()) {
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.docusign.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.docusign.entity.DocumentCompletion;
+
+public interface DocumentCompletionRepoCustom {
+
+    /**
+     * Inserts all completions in unordered bulk writes, letting the driver
+     * split them into as few round trips as its batch limits allow. A failed
+     * document does not stop the rest from being written.
+     */
+    void insertAllUnordered(List<DocumentCompletion> completions);
+
+    List<String> findDistinctDesignerIds();
+
+    /**
+     * Streams a designer's completions in id order from a server-side cursor,
+     * fetching {@code batchSize} documents per round trip. Completion tokens
+     * are left out. The stream must be closed.
+     */
+    Stream<DocumentCompletion> streamByDesignerId(String designerId, int batchSize);
+
+    /**
+     * Moves the recipient's completion from pending to completed with its
+     * field values and a pending capture of {@code captureSourceKey}, in one
+     * conditional update. Returns the completed record, or {@code null} if
+     * there is no pending completion for this token, user and designer, for
+     * example because another request submitted it first.
+     */
+    DocumentCompletion completeSubmission(String token, String userId, String designerId,
+            Map<String, Object> fieldValues, String captureSourceKey, Instant now);
+
+    /**
+     * Whether the completion's follow-ups (completed count, consolidated
+     * values, final notices) have yet to finish. False for completions counted
+     * before {@code countedAt} existed.
+     */
+    boolean isCountPending(String id);
+
+    /**
+     * Completions submitted before {@code completedBefore} whose follow-ups
+     * have not finished, oldest first. Tokens are left out.
+     */
+    List<DocumentCompletion> findCountPending(Instant completedBefore, int limit);
+
+    /** Records that the completion's follow-ups have finished. */
+    void markCounted(String id, Instant now);
+
+    /**
+     * Pending captures whose last claim is older than {@code claimedBefore},
+     * oldest first.
+     */
+    List<DocumentCompletion> findStaleCaptures(Instant claimedBefore, int limit);
+
+    /**
+     * Atomically takes over a pending capture whose claim is older than
+     * {@code claimedBefore}, bumping its attempt count. Returns the updated
+     * completion, or {@code null} if another worker got there first.
+     */
+    DocumentCompletion claimCapture(String id, Instant claimedBefore, Instant now);
+
+    void markCaptured(String id, String captureKey);
+
+    /**
+     * Records a failed copy. A non-terminal failure leaves the capture pending
+     * for the recovery sweep to retry.
+     */
+    void markCaptureFailed(String id, String error, boolean terminal);
+}
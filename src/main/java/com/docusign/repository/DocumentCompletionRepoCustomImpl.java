@@ -0,0 +1,149 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.DocumentCompletion;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DocumentCompletionRepoCustomImpl implements DocumentCompletionRepoCustom {
+
+    private static final String COUNTED_AT = "countedAt";
+    private static final int BSON_NULL = 10;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void insertAllUnordered(List<DocumentCompletion> completions) {
+        if (completions.isEmpty()) {
+            return;
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DocumentCompletion.class)
+                .insert(completions)
+                .execute();
+    }
+
+    @Override
+    public List<String> findDistinctDesignerIds() {
+        return mongoTemplate.findDistinct(new Query(), "designerId", DocumentCompletion.class, String.class);
+    }
+
+    @Override
+    public Stream<DocumentCompletion> streamByDesignerId(String designerId, int batchSize) {
+        Query query = new Query(where("designerId").is(designerId))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .cursorBatchSize(batchSize);
+        query.fields().exclude("token");
+        return mongoTemplate.stream(query, DocumentCompletion.class);
+    }
+
+    @Override
+    public DocumentCompletion completeSubmission(String token, String userId, String designerId,
+            Map<String, Object> fieldValues, String captureSourceKey, Instant now) {
+        Query query = new Query(where("token").is(token)
+                .and("userId").is(userId)
+                .and("designerId").is(designerId)
+                .and("status").is(AppConstants.STATUS_PENDING));
+        Update update = new Update()
+                .set("status", AppConstants.STATUS_COMPLETED)
+                .set("fieldValues", fieldValues)
+                .set("completedAt", now)
+                .set("updatedAt", now)
+                .set("captureSourceKey", captureSourceKey)
+                .set("captureStatus", AppConstants.CAPTURE_STATUS_PENDING)
+                .set("captureClaimedAt", now)
+                .set("captureAttempts", 1)
+                .unset("captureKey")
+                .unset("captureError")
+                .set(COUNTED_AT, null)
+                .inc("version", 1);
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), DocumentCompletion.class);
+    }
+
+    @Override
+    public boolean isCountPending(String id) {
+        return mongoTemplate.exists(new Query(where("_id").is(id).and(COUNTED_AT).type(BSON_NULL)),
+                DocumentCompletion.class);
+    }
+
+    @Override
+    public List<DocumentCompletion> findCountPending(Instant completedBefore, int limit) {
+        // $type null matches the explicit null written on submission, not a missing field
+        Query query = new Query(where(COUNTED_AT).type(BSON_NULL)
+                .and("completedAt").lt(completedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "completedAt"))
+                .limit(limit);
+        query.fields().exclude("token");
+        return mongoTemplate.find(query, DocumentCompletion.class);
+    }
+
+    @Override
+    public void markCounted(String id, Instant now) {
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(id).and(COUNTED_AT).type(BSON_NULL)),
+                new Update().set(COUNTED_AT, now).inc("version", 1),
+                DocumentCompletion.class);
+    }
+
+    @Override
+    public List<DocumentCompletion> findStaleCaptures(Instant claimedBefore, int limit) {
+        Query query = new Query(where("captureStatus").is(AppConstants.CAPTURE_STATUS_PENDING)
+                .and("captureClaimedAt").lt(claimedBefore))
+                .with(Sort.by(Sort.Direction.ASC, "captureClaimedAt"))
+                .limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, DocumentCompletion.class);
+    }
+
+    @Override
+    public DocumentCompletion claimCapture(String id, Instant claimedBefore, Instant now) {
+        Query query = new Query(where("_id").is(id)
+                .and("captureStatus").is(AppConstants.CAPTURE_STATUS_PENDING)
+                .and("captureClaimedAt").lt(claimedBefore));
+        Update update = new Update()
+                .set("captureClaimedAt", now)
+                .inc("captureAttempts", 1)
+                .inc("version", 1);
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), DocumentCompletion.class);
+    }
+
+    @Override
+    public void markCaptured(String id, String captureKey) {
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(id).and("captureStatus").is(AppConstants.CAPTURE_STATUS_PENDING)),
+                new Update()
+                        .set("captureStatus", AppConstants.CAPTURE_STATUS_COPIED)
+                        .set("captureKey", captureKey)
+                        .unset("captureError")
+                        .inc("version", 1),
+                DocumentCompletion.class);
+    }
+
+    @Override
+    public void markCaptureFailed(String id, String error, boolean terminal) {
+        Update update = new Update().set("captureError", error).inc("version", 1);
+        if (terminal) {
+            update.set("captureStatus", AppConstants.CAPTURE_STATUS_FAILED);
+        }
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(id).and("captureStatus").is(AppConstants.CAPTURE_STATUS_PENDING)),
+                update,
+                DocumentCompletion.class);
+    }
+}
@@ -0,0 +1,11 @@
+package com.docusign.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.docusign.entity.EmailDeadLetter;
+
+public interface EmailDeadLetterRepo extends MongoRepository<EmailDeadLetter, String> {
+    List<EmailDeadLetter> findAllByOrderByFailedAtDesc();
+}
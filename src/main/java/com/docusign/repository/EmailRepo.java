@@ -3,12 +3,17 @@ package com.docusign.repository;
 import java.time.LocalDateTime;
 import com.docusign.entity.EmailQueue;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.List;
 import java.util.Optional;
 
-public interface EmailRepo extends MongoRepository<EmailQueue, String> {
+public interface EmailRepo extends MongoRepository<EmailQueue, String>, EmailRepoCustom {
 	
-    Optional<EmailQueue> findTopByEmailAndUsedFalseOrderByCreatedAtDesc(String email);
+    Optional<EmailQueue> findTopByEmailAndTypeAndUsedFalseOrderByCreatedAtDesc(String email, String type);
+
+    List<EmailQueue> findByTypeAndUsedFalseAndExpiresAtAfter(String type, LocalDateTime time);
     
-    void deleteByExpiresAtBefore(LocalDateTime time);
-    void deleteByUsedTrue();
+    long countByStatus(String status);
+
+    long deleteByExpiresAtBefore(LocalDateTime time);
+    long deleteByUsedTrue();
 }
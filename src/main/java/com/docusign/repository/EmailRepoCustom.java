@@ -0,0 +1,36 @@
+package com.docusign.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+
+import com.docusign.entity.EmailQueue;
+
+public interface EmailRepoCustom {
+
+    /**
+     * Atomically moves up to {@code limit} due queued emails, oldest first, to
+     * the sending state and assigns them to the given worker.
+     */
+    List<EmailQueue> claimBatch(String workerId, Instant now, int limit);
+
+    void markSent(Collection<ObjectId> ids, String workerId, Instant sentAt);
+
+    void markRetry(Collection<ObjectId> ids, String workerId, Instant nextAttemptAt, String error);
+
+    /**
+     * Copies permanently failed emails into {@code email_dead_letters} and
+     * removes them from the outbox.
+     */
+    void moveToDeadLetters(List<EmailQueue> emails, String workerId, String error);
+
+    void markUsed(Collection<ObjectId> ids);
+
+    /**
+     * Returns emails whose worker lease expired (e.g. the node died mid-send)
+     * to the queue.
+     */
+    long releaseStaleClaims(Instant claimedBefore);
+}
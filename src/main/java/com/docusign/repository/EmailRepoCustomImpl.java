@@ -0,0 +1,123 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.EmailDeadLetter;
+import com.docusign.entity.EmailQueue;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class EmailRepoCustomImpl implements EmailRepoCustom {
+
+    private static final String ID = "_id";
+    private static final String STATUS = "status";
+    private static final String NEXT_ATTEMPT_AT = "nextAttemptAt";
+    private static final String LAST_ERROR = "lastError";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<EmailQueue> claimBatch(String workerId, Instant now, int limit) {
+        Query candidates = new Query(where(STATUS).is(AppConstants.EMAIL_STATUS_QUEUED)
+                .and(NEXT_ATTEMPT_AT).lte(now))
+                .with(Sort.by(Sort.Direction.ASC, NEXT_ATTEMPT_AT))
+                .limit(limit);
+        candidates.fields().include(ID);
+
+        List<ObjectId> ids = mongoTemplate.find(candidates, EmailQueue.class).stream()
+                .map(EmailQueue::getObjectId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Re-check the status so rows taken by another worker in the meantime are skipped
+        mongoTemplate.updateMulti(
+                new Query(where(ID).in(ids).and(STATUS).is(AppConstants.EMAIL_STATUS_QUEUED)),
+                LeaseGuard.claim(AppConstants.EMAIL_STATUS_SENDING, workerId, now).inc("attempts", 1),
+                EmailQueue.class);
+
+        return mongoTemplate.find(
+                LeaseGuard.claimedBy(ids, workerId)
+                        .addCriteria(where(STATUS).is(AppConstants.EMAIL_STATUS_SENDING)),
+                EmailQueue.class);
+    }
+
+    @Override
+    public void markSent(Collection<ObjectId> ids, String workerId, Instant sentAt) {
+        mongoTemplate.updateMulti(
+                LeaseGuard.claimedBy(ids, workerId),
+                LeaseGuard.release(new Update()
+                        .set(STATUS, AppConstants.EMAIL_STATUS_SENT)
+                        .set("sentAt", sentAt)
+                        .unset(LAST_ERROR)),
+                EmailQueue.class);
+    }
+
+    @Override
+    public void markRetry(Collection<ObjectId> ids, String workerId, Instant nextAttemptAt, String error) {
+        mongoTemplate.updateMulti(
+                LeaseGuard.claimedBy(ids, workerId),
+                LeaseGuard.release(new Update()
+                        .set(STATUS, AppConstants.EMAIL_STATUS_QUEUED)
+                        .set(NEXT_ATTEMPT_AT, nextAttemptAt)
+                        .set(LAST_ERROR, error)),
+                EmailQueue.class);
+    }
+
+    @Override
+    public void moveToDeadLetters(List<EmailQueue> emails, String workerId, String error) {
+        Instant failedAt = Instant.now();
+        for (EmailQueue email : emails) {
+            // Keyed by the outbox id, so a retried move overwrites instead of duplicating
+            mongoTemplate.save(EmailDeadLetter.builder()
+                    .id(email.getId())
+                    .email(email.getEmail())
+                    .type(email.getType())
+                    .subject(email.getSubject())
+                    .body(hasSecrets(email) ? null : email.getBody())
+                    .expiresAt(email.getExpiresAt())
+                    .attempts(email.getAttempts())
+                    .lastError(error)
+                    .failedAt(failedAt)
+                    .build());
+        }
+        mongoTemplate.remove(
+                LeaseGuard.claimedBy(emails.stream().map(EmailQueue::getObjectId).toList(), workerId),
+                EmailQueue.class);
+    }
+
+    @Override
+    public void markUsed(Collection<ObjectId> ids) {
+        mongoTemplate.updateMulti(
+                new Query(where(ID).in(ids)),
+                new Update().set("used", true),
+                EmailQueue.class);
+    }
+
+    @Override
+    public long releaseStaleClaims(Instant claimedBefore) {
+        return LeaseGuard.releaseStale(mongoTemplate, EmailQueue.class, AppConstants.EMAIL_STATUS_SENDING,
+                claimedBefore,
+                new Update()
+                        .set(STATUS, AppConstants.EMAIL_STATUS_QUEUED)
+                        .set(NEXT_ATTEMPT_AT, claimedBefore));
+    }
+
+    private static boolean hasSecrets(EmailQueue email) {
+        return AppConstants.EMAIL_TYPE_OTP.equals(email.getType())
+                || AppConstants.EMAIL_TYPE_USER_CREATION.equals(email.getType());
+    }
+}
@@ -0,0 +1,9 @@
+package com.docusign.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.docusign.entity.FinalDocumentNotification;
+
+public interface FinalDocumentNotificationRepo
+        extends MongoRepository<FinalDocumentNotification, String>, FinalDocumentNotificationRepoCustom {
+}
@@ -0,0 +1,42 @@
+package com.docusign.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import com.docusign.entity.FinalDocumentNotification;
+
+public interface FinalDocumentNotificationRepoCustom {
+
+    /**
+     * Inserts the notices in one unordered bulk write, skipping any that are
+     * already stored.
+     */
+    void insertAllUnordered(List<FinalDocumentNotification> notices);
+
+    /**
+     * Addresses with a digest to send: their oldest pending notice was
+     * created at or before {@code openedBefore}, or they have at least
+     * {@code maxDocuments} pending.
+     */
+    List<String> findDueEmails(Instant openedBefore, int maxDocuments, int limit);
+
+    /**
+     * Claims up to {@code limit} of the address's pending notices, oldest
+     * first, for {@code claimId}. Notices claimed by another sweep in the
+     * meantime are left out.
+     */
+    List<FinalDocumentNotification> claimForEmail(String email, String claimId, Instant now, int limit);
+
+    /** Deletes notices whose digest was queued. */
+    void deleteClaimed(Collection<String> ids, String claimId);
+
+    /** Puts claimed notices back to pending after their digest failed. */
+    void releaseClaimed(Collection<String> ids, String claimId);
+
+    /**
+     * Returns notices claimed at or before {@code claimedBefore}, whose sweep
+     * is presumed dead, to pending. Returns how many were released.
+     */
+    long releaseStaleClaims(Instant claimedBefore);
+}
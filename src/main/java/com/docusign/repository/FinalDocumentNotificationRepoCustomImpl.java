@@ -0,0 +1,119 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.FinalDocumentNotification;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FinalDocumentNotificationRepoCustomImpl implements FinalDocumentNotificationRepoCustom {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private static final String ID = "_id";
+    private static final String STATUS = "status";
+    private static final String EMAIL = "email";
+    private static final String CREATED_AT = "createdAt";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void insertAllUnordered(List<FinalDocumentNotification> notices) {
+        if (notices.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FinalDocumentNotification.class)
+                    .insert(notices)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public List<String> findDueEmails(Instant openedBefore, int maxDocuments, int limit) {
+        return mongoTemplate.aggregate(
+                newAggregation(
+                        match(where(STATUS).is(AppConstants.FINAL_NOTICE_STATUS_PENDING)),
+                        group(EMAIL)
+                                .min(CREATED_AT).as("openedAt")
+                                .count().as("documents"),
+                        match(new Criteria().orOperator(
+                                where("openedAt").lte(openedBefore),
+                                where("documents").gte(maxDocuments))),
+                        limit(limit)),
+                FinalDocumentNotification.class,
+                Document.class).getMappedResults().stream()
+                .map(result -> result.getString(ID))
+                .toList();
+    }
+
+    @Override
+    public List<FinalDocumentNotification> claimForEmail(String email, String claimId, Instant now, int limit) {
+        Query candidates = new Query(where(STATUS).is(AppConstants.FINAL_NOTICE_STATUS_PENDING)
+                .and(EMAIL).is(email))
+                .with(Sort.by(Sort.Direction.ASC, CREATED_AT))
+                .limit(limit);
+        candidates.fields().include(ID);
+
+        List<String> ids = mongoTemplate.find(candidates, FinalDocumentNotification.class).stream()
+                .map(FinalDocumentNotification::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Re-check the status so notices taken by another sweep in the meantime are skipped
+        mongoTemplate.updateMulti(
+                new Query(where(ID).in(ids).and(STATUS).is(AppConstants.FINAL_NOTICE_STATUS_PENDING)),
+                LeaseGuard.claim(AppConstants.FINAL_NOTICE_STATUS_SENDING, claimId, now),
+                FinalDocumentNotification.class);
+
+        return mongoTemplate.find(
+                LeaseGuard.claimedBy(ids, claimId).with(Sort.by(Sort.Direction.ASC, CREATED_AT)),
+                FinalDocumentNotification.class);
+    }
+
+    @Override
+    public void deleteClaimed(Collection<String> ids, String claimId) {
+        mongoTemplate.remove(LeaseGuard.claimedBy(ids, claimId), FinalDocumentNotification.class);
+    }
+
+    @Override
+    public void releaseClaimed(Collection<String> ids, String claimId) {
+        mongoTemplate.updateMulti(LeaseGuard.claimedBy(ids, claimId), pending(), FinalDocumentNotification.class);
+    }
+
+    @Override
+    public long releaseStaleClaims(Instant claimedBefore) {
+        return LeaseGuard.releaseStale(mongoTemplate, FinalDocumentNotification.class,
+                AppConstants.FINAL_NOTICE_STATUS_SENDING, claimedBefore,
+                new Update().set(STATUS, AppConstants.FINAL_NOTICE_STATUS_PENDING));
+    }
+
+    private Update pending() {
+        return LeaseGuard.release(new Update().set(STATUS, AppConstants.FINAL_NOTICE_STATUS_PENDING));
+    }
+}
@@ -0,0 +1,65 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * The claim/lease fields shared by the queues kept in MongoDB (email outbox,
+ * bulk publish chunks, final-document notices). A row is claimed by setting
+ * its status together with {@code claimedBy} and {@code claimedAt}; every
+ * later write by the claimant is guarded on {@code claimedBy}, and claims
+ * older than the lease are handed back by {@link #releaseStale}.
+ */
+final class LeaseGuard {
+
+    static final String CLAIMED_BY = "claimedBy";
+    static final String CLAIMED_AT = "claimedAt";
+
+    private static final String ID = "_id";
+    private static final String STATUS = "status";
+
+    private LeaseGuard() {
+    }
+
+    /** Moves a row to {@code status} under a claim by {@code owner}. */
+    static Update claim(String status, String owner, Instant now) {
+        return new Update()
+                .set(STATUS, status)
+                .set(CLAIMED_BY, owner)
+                .set(CLAIMED_AT, now);
+    }
+
+    /** Adds the removal of the claim to {@code update}. */
+    static Update release(Update update) {
+        return update.unset(CLAIMED_BY).unset(CLAIMED_AT);
+    }
+
+    // Guards updates so an owner whose lease was released cannot overwrite
+    // the state written by the owner that re-claimed the row.
+    static Query claimedBy(Object id, String owner) {
+        return new Query(where(ID).is(id).and(CLAIMED_BY).is(owner));
+    }
+
+    static Query claimedBy(Collection<?> ids, String owner) {
+        return new Query(where(ID).in(ids).and(CLAIMED_BY).is(owner));
+    }
+
+    /**
+     * Applies {@code update}, with the claim removed, to rows still in
+     * {@code claimedStatus} that were claimed at or before
+     * {@code claimedBefore}. Returns how many were released.
+     */
+    static long releaseStale(MongoTemplate mongoTemplate, Class<?> entityClass, String claimedStatus,
+            Instant claimedBefore, Update update) {
+        return mongoTemplate.updateMulti(
+                new Query(where(STATUS).is(claimedStatus).and(CLAIMED_AT).lte(claimedBefore)),
+                release(update),
+                entityClass).getModifiedCount();
+    }
+}
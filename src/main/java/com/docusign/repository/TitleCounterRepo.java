@@ -0,0 +1,8 @@
+package com.docusign.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.docusign.entity.TitleCounter;
+
+public interface TitleCounterRepo extends MongoRepository<TitleCounter, String>, TitleCounterRepoCustom {
+}
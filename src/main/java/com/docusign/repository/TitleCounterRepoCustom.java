@@ -0,0 +1,22 @@
+package com.docusign.repository;
+
+public interface TitleCounterRepoCustom {
+
+    /**
+     * Creates the counter, or raises it to {@code lastSuffix} if it is lower.
+     * Concurrent seeds for the same title settle on the highest value.
+     */
+    void seed(String baseTitle, long lastSuffix);
+
+    /**
+     * Raises an existing counter to {@code suffix} if it is lower. A counter
+     * that has not been seeded is left alone; its seed will see the title.
+     */
+    void raise(String baseTitle, long suffix);
+
+    /**
+     * Atomically takes the next suffix for {@code baseTitle}, or returns null
+     * if the counter has not been seeded.
+     */
+    Long nextSuffix(String baseTitle);
+}
@@ -0,0 +1,44 @@
+package com.docusign.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.docusign.entity.TitleCounter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TitleCounterRepoCustomImpl implements TitleCounterRepoCustom {
+
+    private static final String LAST_SUFFIX = "lastSuffix";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void seed(String baseTitle, long lastSuffix) {
+        mongoTemplate.upsert(byId(baseTitle), new Update().max(LAST_SUFFIX, lastSuffix), TitleCounter.class);
+    }
+
+    @Override
+    public void raise(String baseTitle, long suffix) {
+        mongoTemplate.updateFirst(byId(baseTitle), new Update().max(LAST_SUFFIX, suffix), TitleCounter.class);
+    }
+
+    @Override
+    public Long nextSuffix(String baseTitle) {
+        TitleCounter counter = mongoTemplate.findAndModify(
+                byId(baseTitle),
+                new Update().inc(LAST_SUFFIX, 1),
+                FindAndModifyOptions.options().returnNew(true),
+                TitleCounter.class);
+        return counter != null ? counter.getLastSuffix() : null;
+    }
+
+    private Query byId(String baseTitle) {
+        return new Query(where("_id").is(baseTitle));
+    }
+}
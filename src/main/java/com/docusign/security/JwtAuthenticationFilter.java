@@ -1,6 +1,9 @@
 package com.docusign.security;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,6 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Pattern COMPLETION_EVENTS = Pattern.compile("^/api/designers/([^/]+)/completions/events$");
+
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
 
@@ -42,17 +47,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+
+        String jwt = null;
+        String streamDesignerId = null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            jwt = authHeader.substring(7);
+        } else {
+            // EventSource cannot send headers, so the events stream takes a
+            // stream token for its own designer as a query parameter
+            Matcher events = COMPLETION_EVENTS.matcher(request.getServletPath());
+            if (events.matches()) {
+                jwt = request.getParameter("access_token");
+                streamDesignerId = events.group(1);
+            }
+        }
+
+        if (jwt == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            final String jwt = authHeader.substring(7);
             final String userName = jwtService.extractUsername(jwt);
 
-            if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null && jwtService.isTokenValid(jwt)) {
+            // Session tokens carry no stream scope and stream tokens only open their own stream
+            if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null && jwtService.isTokenValid(jwt)
+                    && Objects.equals(jwtService.extractStreamDesignerId(jwt), streamDesignerId)) {
                     String docToken = null;
                     docToken = jwtService.extractDocToken(jwt);
 
@@ -15,10 +15,15 @@ import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
+
+    private static final String STREAM_DESIGNER_ID = "streamDesignerId";
 	
 	@Value("${jwt.secret}")
     private String SECRET_KEY;
 
+    @Value("${sse.token-ttl-seconds:60}")
+    private long streamTokenTtlSeconds;
+
     private Key getSignKey() {
         return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
     }
@@ -82,6 +87,30 @@ public class JwtService {
           .claim("id",email).compact();
     }
 
+    /**
+     * A short-lived token that only authenticates the completion events stream
+     * of one designer. EventSource cannot send an Authorization header, so the
+     * stream takes this in its query string instead of the session token.
+     */
+    public String generateStreamToken(String userName, String designerId) {
+        return Jwts.builder().signWith(getSignKey(), SignatureAlgorithm.HS512)
+          .setHeaderParam("typ", "JWT")
+          .setIssuer("secure-api")
+          .setAudience("secure-app")
+          .setSubject(userName)
+          .setExpiration(Date.from(Instant.now().plusSeconds(streamTokenTtlSeconds)))
+          .claim(STREAM_DESIGNER_ID, designerId).compact();
+    }
+
+    public String extractStreamDesignerId(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(getSignKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .get(STREAM_DESIGNER_ID, String.class);
+    }
+
     public String extractDocToken(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(getSignKey())
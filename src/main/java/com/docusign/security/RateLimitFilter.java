@@ -0,0 +1,81 @@
+package com.docusign.security;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.docusign.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rejects requests to the rate-limited auth routes with 429 once the client
+ * IP has used up its bucket, before the body is read or any BCrypt or OTP
+ * work is done.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ratelimit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain chain) throws ServletException, IOException {
+
+        RateLimiter.Route route = rateLimiter.routeFor(request.getServletPath());
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String clientIp = clientIp(request);
+        if (rateLimiter.tryAcquireIp(route, clientIp)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Rate limit exceeded on {} for {}", route.getPath(), clientIp);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimiter.ipRetryAfterSeconds(route)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ApiResponse(false, "Too many requests, please try again later"));
+    }
+
+    // Only trust X-Forwarded-For behind a proxy that overwrites it; clients can set it freely
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,106 @@
+package com.docusign.security;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.docusign.exception.RateLimitExceededException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-route request limits for the unauthenticated auth endpoints, keyed by
+ * client IP (checked in {@link RateLimitFilter}) and by username (checked by
+ * the controller once the body is parsed). Limits are read from
+ * {@code ratelimit.<route>.ip.*} and {@code ratelimit.<route>.user.*}.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    public enum Route {
+        LOGIN("/api/auth/login", "login", 20, 5),
+        FORGOT_PASSWORD("/api/auth/forgotpassword", "forgotpassword", 5, 3),
+        VERIFY_OTP("/api/auth/verifyotp", "verifyotp", 10, 5);
+
+        private final String path;
+        private final String key;
+        private final int defaultIpCapacity;
+        private final int defaultUserCapacity;
+
+        Route(String path, String key, int defaultIpCapacity, int defaultUserCapacity) {
+            this.path = path;
+            this.key = key;
+            this.defaultIpCapacity = defaultIpCapacity;
+            this.defaultUserCapacity = defaultUserCapacity;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        static Route forPath(String path) {
+            for (Route route : values()) {
+                if (route.path.equals(path)) {
+                    return route;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<Route, TokenBucketTable> ipBuckets = new EnumMap<>(Route.class);
+    private final Map<Route, TokenBucketTable> userBuckets = new EnumMap<>(Route.class);
+
+    public RateLimiter(Environment env) {
+        this.enabled = env.getProperty("ratelimit.enabled", Boolean.class, true);
+        int slots = env.getProperty("ratelimit.slots", Integer.class, 65536);
+        int stripes = env.getProperty("ratelimit.stripes", Integer.class, 64);
+        for (Route route : Route.values()) {
+            ipBuckets.put(route, table(env, route, "ip", route.defaultIpCapacity, slots, stripes));
+            userBuckets.put(route, table(env, route, "user", route.defaultUserCapacity, slots, stripes));
+        }
+    }
+
+    private static TokenBucketTable table(Environment env, Route route, String dimension,
+            int defaultCapacity, int slots, int stripes) {
+        String prefix = "ratelimit." + route.key + "." + dimension;
+        int capacity = env.getProperty(prefix + ".capacity", Integer.class, defaultCapacity);
+        long refillSeconds = env.getProperty(prefix + ".refill-seconds", Long.class, 60L);
+        return new TokenBucketTable(capacity, Duration.ofSeconds(refillSeconds), slots, stripes);
+    }
+
+    /** Returns the limited route for a servlet path, or null if the path is not limited. */
+    public Route routeFor(String path) {
+        return enabled ? Route.forPath(path) : null;
+    }
+
+    public boolean tryAcquireIp(Route route, String clientIp) {
+        return ipBuckets.get(route).tryAcquire(clientIp);
+    }
+
+    public long ipRetryAfterSeconds(Route route) {
+        return ipBuckets.get(route).retryAfterSeconds();
+    }
+
+    /**
+     * Spends one token from the username's bucket for the route.
+     *
+     * @throws RateLimitExceededException if the bucket is empty
+     */
+    public void checkUser(Route route, String userName) {
+        if (!enabled || userName == null) {
+            return;
+        }
+        TokenBucketTable buckets = userBuckets.get(route);
+        if (!buckets.tryAcquire(userName)) {
+            log.warn("Rate limit exceeded on {} for user {}", route.path, userName);
+            throw new RateLimitExceededException(
+                    "Too many requests, please try again later", buckets.retryAfterSeconds());
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RequestLoggingFilter requestLoggingFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
@@ -55,11 +56,17 @@ public class SecurityConfig {
                     "/api/auth/resetpassword",
                     "/api/auth/updatepassword",
                     "/api/documents/complete/**",
-                    "/api/auth/health"
+                    "/api/auth/health",
+                    "/actuator/health"
                 ).permitAll()
+                // Dead letters and their replay
+                .requestMatchers("/api/emails/**").hasRole("ADMIN")
+                // Whole-collection rebuild, check and repair of consolidated values
+                .requestMatchers("/api/designers/consolidated-values/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(requestLoggingFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -0,0 +1,127 @@
+package com.docusign.security;
+
+import java.time.Duration;
+
+/**
+ * Fixed-size table of token buckets keyed by string (client IP or username).
+ * Bucket state lives in primitive arrays and each key maps straight to a set
+ * of {@value #WAYS} slots, so {@link #tryAcquire} allocates nothing. Sets are
+ * guarded by a small set of striped locks, so threads only contend when their
+ * keys share a stripe.
+ *
+ * <p>Tokens are tracked in nanoseconds of refill time: a full bucket holds
+ * {@code capacity * nanosPerToken} and each request spends
+ * {@code nanosPerToken}. A slot remembers the hash of the key that owns it,
+ * and a key only uses a slot it owns. A new key takes a free slot in its set,
+ * or one whose bucket has refilled completely, which loses its owner nothing.
+ * When every slot in the set is still refilling, the new key spends from the
+ * fullest one without taking it over, so colliding keys can drain a bucket
+ * but never reset it, and memory stays bounded however many keys are seen.
+ */
+public final class TokenBucketTable {
+
+    static final int WAYS = 4;
+    private static final int WAY_BITS = Integer.numberOfTrailingZeros(WAYS);
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final int setMask;
+    private final int stripeMask;
+
+    private final int[] keyHashes;
+    private final long[] available;
+    private final long[] lastRefill;
+    private final Object[] locks;
+
+    public TokenBucketTable(int capacity, Duration refillPeriod, int slots, int stripes) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.nanosPerToken = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.capacityNanos = nanosPerToken * capacity;
+        int slotCount = Math.max(WAYS, powerOfTwo(slots));
+        int setCount = slotCount / WAYS;
+        int stripeCount = Math.min(powerOfTwo(stripes), setCount);
+        this.setMask = setCount - 1;
+        this.stripeMask = stripeCount - 1;
+        this.keyHashes = new int[slotCount];
+        this.available = new long[slotCount];
+        this.lastRefill = new long[slotCount];
+        this.locks = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        int hash = spread(key.hashCode());
+        int set = hash & setMask;
+        int first = set << WAY_BITS;
+        synchronized (locks[set & stripeMask]) {
+            int slot = -1;
+            int reusable = -1;
+            int fullest = first;
+            long fullestTokens = -1;
+            for (int i = first; i < first + WAYS; i++) {
+                if (keyHashes[i] == hash) {
+                    slot = i;
+                    break;
+                }
+                long tokens = tokens(i, now);
+                if (reusable < 0 && tokens >= capacityNanos) {
+                    reusable = i;
+                }
+                if (tokens > fullestTokens) {
+                    fullest = i;
+                    fullestTokens = tokens;
+                }
+            }
+            if (slot < 0 && reusable >= 0) {
+                slot = reusable;
+                keyHashes[slot] = hash;
+                available[slot] = capacityNanos;
+                lastRefill[slot] = now;
+            } else if (slot < 0) {
+                slot = fullest;
+            }
+
+            long tokens = tokens(slot, now);
+            lastRefill[slot] = now;
+            if (tokens < nanosPerToken) {
+                available[slot] = tokens;
+                return false;
+            }
+            available[slot] = tokens - nanosPerToken;
+            return true;
+        }
+    }
+
+    private long tokens(int slot, long now) {
+        if (keyHashes[slot] == 0) {
+            return capacityNanos;
+        }
+        return Math.min(capacityNanos, available[slot] + (now - lastRefill[slot]));
+    }
+
+    /** Seconds until the next token, used for the Retry-After header. */
+    public long retryAfterSeconds() {
+        return Math.max(1, Duration.ofNanos(nanosPerToken).toSeconds());
+    }
+
+    // String.hashCode is weak in the low bits for similar keys such as IPs
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        // 0 marks an empty slot
+        return h == 0 ? 1 : h;
+    }
+
+    private static int powerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+}
@@ -0,0 +1,19 @@
+package com.docusign.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.docusign.dto.BulkPublishJobStatus;
+import com.docusign.entity.BulkPublishJob;
+
+public interface BulkPublishService {
+
+    /**
+     * Stores a bulk publish of the designer to {@code users} as a job split
+     * into chunks and returns it; the clones are created in the background by
+     * {@link BulkPublishWorker}.
+     */
+    BulkPublishJob startJob(String designerId, List<Map<String, Object>> users);
+
+    BulkPublishJobStatus getJobStatus(String jobId);
+}
@@ -0,0 +1,103 @@
+package com.docusign.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.BulkPublishChunkTally;
+import com.docusign.dto.BulkPublishJobStatus;
+import com.docusign.entity.BulkPublishChunk;
+import com.docusign.entity.BulkPublishJob;
+import com.docusign.exception.ResourceNotFoundException;
+import com.docusign.repository.BulkPublishChunkRepo;
+import com.docusign.repository.BulkPublishJobRepo;
+import com.docusign.repository.DesignerRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkPublishServiceImpl implements BulkPublishService {
+
+    private final DesignerRepo designerRepo;
+    private final BulkPublishJobRepo jobRepo;
+    private final BulkPublishChunkRepo chunkRepo;
+    private final BulkPublishWorker bulkPublishWorker;
+
+    @Value("${bulk-publish.chunk-size:200}")
+    private int chunkSize;
+
+    @Override
+    public BulkPublishJob startJob(String designerId, List<Map<String, Object>> users) {
+        if (!designerRepo.existsById(designerId)) {
+            throw new ResourceNotFoundException("Designer not found with id: " + designerId);
+        }
+
+        String jobId = new ObjectId().toHexString();
+        List<BulkPublishChunk> chunks = new ArrayList<>();
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            chunks.add(BulkPublishChunk.builder()
+                    // ObjectIds made in sequence sort in that order, so workers take chunks first in, first out
+                    .id(new ObjectId().toHexString())
+                    .jobId(jobId)
+                    .designerId(designerId)
+                    .chunkIndex(chunks.size())
+                    .users(new ArrayList<>(users.subList(from, Math.min(from + chunkSize, users.size()))))
+                    .status(AppConstants.BULK_CHUNK_STATUS_QUEUED)
+                    .build());
+        }
+        chunkRepo.insertAllUnordered(chunks);
+
+        BulkPublishJob job = jobRepo.insert(BulkPublishJob.builder()
+                .id(jobId)
+                .designerId(designerId)
+                .totalUsers(users.size())
+                .totalChunks(chunks.size())
+                .chunkSize(chunkSize)
+                .build());
+        log.info("Queued bulk publish job {} of designer {} to {} users in {} chunks",
+                jobId, designerId, users.size(), chunks.size());
+
+        bulkPublishWorker.signal();
+        return job;
+    }
+
+    @Override
+    public BulkPublishJobStatus getJobStatus(String jobId) {
+        BulkPublishJob job = jobRepo.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bulk publish job not found with id: " + jobId));
+
+        int completedChunks = 0;
+        int failedChunks = 0;
+        int clonedCount = 0;
+        int failedUsers = 0;
+        for (BulkPublishChunkTally tally : chunkRepo.tallyByJob(jobId)) {
+            if (AppConstants.BULK_CHUNK_STATUS_DONE.equals(tally.status())) {
+                completedChunks = tally.chunks();
+            } else if (AppConstants.BULK_CHUNK_STATUS_FAILED.equals(tally.status())) {
+                failedChunks = tally.chunks();
+            }
+            clonedCount += tally.clonedCount();
+            failedUsers += tally.failedCount();
+        }
+
+        String status;
+        if (completedChunks + failedChunks < job.getTotalChunks()) {
+            status = AppConstants.BULK_JOB_STATUS_RUNNING;
+        } else if (failedChunks == 0 && failedUsers == 0) {
+            status = AppConstants.BULK_JOB_STATUS_COMPLETED;
+        } else {
+            status = AppConstants.BULK_JOB_STATUS_COMPLETED_WITH_ERRORS;
+        }
+
+        return new BulkPublishJobStatus(jobId, job.getDesignerId(), status, job.getTotalUsers(), job.getTotalChunks(),
+                completedChunks, failedChunks, clonedCount, failedUsers, job.getCreatedAt());
+    }
+}
@@ -0,0 +1,201 @@
+package com.docusign.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.BulkPublishChunk;
+import com.docusign.entity.Designer;
+import com.docusign.repository.BulkPublishChunkRepo;
+import com.docusign.repository.DesignerRepo;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Works through queued bulk publish chunks with a pool of background workers.
+ * Each worker atomically claims one chunk, builds a clone of the designer per
+ * user, writes the clones and then their completions with one unordered
+ * insertMany each, queues the invitation emails and marks the chunk done.
+ * Workers on every node share the queue, so a job's chunks run in parallel
+ * across the cluster.
+ *
+ * <p>A chunk whose worker dies is released once its lease of
+ * {@code bulk-publish.lease-seconds} runs out and is picked up again; the
+ * retry skips clones and completions the earlier attempt already wrote. A
+ * chunk that keeps failing is given up after {@code bulk-publish.max-attempts}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkPublishWorker {
+
+    private static final String DOCUMENT = "Document";
+
+    private final BulkPublishChunkRepo chunkRepo;
+    private final DesignerRepo designerRepo;
+    private final DocumentCompletionService documentCompletionService;
+
+    @Value("${bulk-publish.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bulk-publish.workers:4}")
+    private int workers;
+
+    @Value("${bulk-publish.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${bulk-publish.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${bulk-publish.max-attempts:3}")
+    private int maxAttempts;
+
+    private LeaseWorkerPool pool;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Bulk publish worker disabled");
+            return;
+        }
+        LeaseRecovery recovery = new LeaseRecovery("bulk publish chunks", Duration.ofSeconds(leaseSeconds),
+                chunkRepo::releaseStaleClaims);
+        pool = new LeaseWorkerPool("bulk-publish", workers, pollIntervalMs, recovery, this::processNext);
+        pool.start();
+        log.info("Bulk publish worker started with {} workers", workers);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (pool != null) {
+            pool.stop();
+        }
+    }
+
+    /** Wakes idle workers so a new job starts without waiting for the next poll. */
+    public void signal() {
+        if (pool != null) {
+            pool.signalAll();
+        }
+    }
+
+    private boolean processNext(String workerId) {
+        BulkPublishChunk chunk = chunkRepo.claimNext(workerId, Instant.now());
+        if (chunk == null) {
+            return false;
+        }
+        process(chunk, workerId);
+        return true;
+    }
+
+    private void process(BulkPublishChunk chunk, String workerId) {
+        if (chunk.getAttempts() > maxAttempts) {
+            chunkRepo.markFailed(chunk.getId(), workerId, "Gave up after " + maxAttempts + " attempts", Instant.now());
+            log.error("Giving up on chunk {} of bulk publish job {}", chunk.getChunkIndex(), chunk.getJobId());
+            return;
+        }
+
+        try {
+            Designer template = designerRepo.findById(chunk.getDesignerId()).orElse(null);
+            if (template == null) {
+                chunkRepo.markFailed(chunk.getId(), workerId, "Designer " + chunk.getDesignerId() + " not found",
+                        Instant.now());
+                return;
+            }
+
+            List<Designer> clones = new ArrayList<>(chunk.getUsers().size());
+            int skipped = 0;
+            for (int i = 0; i < chunk.getUsers().size(); i++) {
+                Map<String, Object> userData = chunk.getUsers().get(i);
+                try {
+                    if (!isPublishable(userData)) {
+                        throw new IllegalArgumentException("missing email or isExternal");
+                    }
+                    clones.add(buildClone(template, userData, cloneId(chunk, i)));
+                } catch (Exception e) {
+                    log.error("Failed to clone document for user {}: {}", userData.get("userName"), e.getMessage());
+                    skipped++;
+                }
+            }
+
+            if (!clones.isEmpty()) {
+                designerRepo.insertAllUnordered(clones);
+                documentCompletionService.sendCloneCompletionEmails(clones);
+            }
+            chunkRepo.markDone(chunk.getId(), workerId, clones.size(), skipped, Instant.now());
+            log.info("Bulk publish job {} chunk {}: {} cloned, {} skipped",
+                    chunk.getJobId(), chunk.getChunkIndex(), clones.size(), skipped);
+        } catch (Exception e) {
+            if (chunk.getAttempts() >= maxAttempts) {
+                log.error("Chunk {} of bulk publish job {} failed for good: ", chunk.getChunkIndex(), chunk.getJobId(), e);
+                chunkRepo.markFailed(chunk.getId(), workerId, e.getMessage(), Instant.now());
+            } else {
+                log.warn("Chunk {} of bulk publish job {} failed (attempt {}), retrying: {}",
+                        chunk.getChunkIndex(), chunk.getJobId(), chunk.getAttempts(), e.getMessage());
+                chunkRepo.markRetry(chunk.getId(), workerId, e.getMessage());
+            }
+        }
+    }
+
+    // The completion email needs both; checked here so no clone is written without one
+    private boolean isPublishable(Map<String, Object> userData) {
+        return userData.get("email") instanceof String email && !email.isBlank()
+                && userData.get("isExternal") instanceof Boolean;
+    }
+
+    // Same id on every attempt at this chunk, so a retry finds the clones already written
+    private String cloneId(BulkPublishChunk chunk, int position) {
+        return UUID.nameUUIDFromBytes((chunk.getId() + ":" + position).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private Designer buildClone(Designer template, Map<String, Object> userData, String cloneId) {
+        Designer clone = new Designer();
+        clone.setId(cloneId);
+
+        String userDisplayName = (String) userData.get("firstName");
+        if (userDisplayName == null || userDisplayName.isEmpty()) {
+            userDisplayName = (String) userData.get("userName");
+        }
+
+        clone.setTitle(String.format("%s - %s", template.getTitle(), userDisplayName));
+        clone.setS3Key(template.getS3Key());
+        clone.setPages(template.getPages());
+        clone.setOwnerUserId(template.getOwnerUserId());
+        clone.setStatus(AppConstants.STATUS_PUBLISHED);
+        clone.setType(DOCUMENT);
+        clone.setCreatedAt(Instant.now());
+        clone.setUpdatedAt(Instant.now());
+
+        // Set this specific user as the only recipient
+        clone.setRecipients(List.of(userData));
+        clone.setExpectedCompletions(1);
+
+        // Clone fields and reassign to this user
+        String targetUserId = (String) userData.get("id");
+        if (targetUserId == null) {
+            targetUserId = (String) userData.get("userId");
+        }
+
+        List<Map<String, Object>> clonedFields = new ArrayList<>();
+        for (Map<String, Object> field : template.getFields()) {
+            Map<String, Object> newField = new HashMap<>(field);
+            newField.put("userId", targetUserId);
+            newField.put("id", "field_" + System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 5));
+            clonedFields.add(newField);
+        }
+        clone.setFields(clonedFields);
+        return clone;
+    }
+}
@@ -0,0 +1,69 @@
+package com.docusign.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code %s}-style template split once into literal segments, so rendering is
+ * a straight sequence of appends instead of re-parsing the format string on
+ * every call. Only {@code %s} and {@code %%} are supported, which is all
+ * {@link com.docusign.constants.EmailTemplates} uses.
+ */
+final class CompiledTemplate {
+
+    private final String[] literals;
+    private final int estimatedLength;
+
+    private CompiledTemplate(String[] literals, int estimatedLength) {
+        this.literals = literals;
+        this.estimatedLength = estimatedLength;
+    }
+
+    static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c != '%') {
+                current.append(c);
+                continue;
+            }
+            char next = i + 1 < template.length() ? template.charAt(i + 1) : 0;
+            if (next == 's') {
+                literals.add(current.toString());
+                current.setLength(0);
+            } else if (next == '%') {
+                current.append('%');
+            } else {
+                throw new IllegalArgumentException("Unsupported format specifier at index " + i + " in template");
+            }
+            i++;
+        }
+        literals.add(current.toString());
+        return new CompiledTemplate(literals.toArray(String[]::new), template.length());
+    }
+
+    int placeholderCount() {
+        return literals.length - 1;
+    }
+
+    int estimatedLength() {
+        return estimatedLength;
+    }
+
+    /**
+     * Appends the rendered template to {@code out}. Arguments are rendered like
+     * {@link String#format} renders {@code %s}, including {@code "null"}.
+     */
+    void renderTo(StringBuilder out, Object... args) {
+        if (args.length != placeholderCount()) {
+            throw new IllegalArgumentException(
+                    "Template expects " + placeholderCount() + " arguments but got " + args.length);
+        }
+        out.append(literals[0]);
+        for (int i = 0; i < args.length; i++) {
+            out.append(args[i]);
+            out.append(literals[i + 1]);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.docusign.service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.CompletionProgressEvent;
+import com.docusign.entity.Designer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes completion progress to dashboards over Server-Sent Events. A new
+ * subscriber gets a {@code snapshot} of the designer's counters, then one
+ * {@code completion} event per submission recorded on this instance, plus a
+ * comment every {@code sse.heartbeat-interval-ms} so proxies keep the
+ * connection open and dead clients are dropped.
+ *
+ * <p>Events are fanned out off the submitting request's thread, and heartbeats
+ * off the scheduler's, so one slow client holds up neither. The bus is
+ * in-process, so with several instances a dashboard only sees submissions
+ * handled by the instance it is connected to.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompletionProgressBroadcaster {
+
+    private final FanOutExecutor fanOutExecutor;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Designer designer) {
+        String designerId = designer.getId();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        subscribers.computeIfAbsent(designerId, id -> new CopyOnWriteArraySet<>()).add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(designerId, emitter));
+        emitter.onTimeout(() -> unsubscribe(designerId, emitter));
+        emitter.onError(error -> unsubscribe(designerId, emitter));
+
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("designerId", designerId);
+        snapshot.put("status", designer.getStatus());
+        snapshot.put("completedCount", designer.getCompletedCount());
+        snapshot.put("expectedCompletions", designer.getExpectedCompletions());
+        snapshot.put("designerCompleted", AppConstants.STATUS_COMPLETED.equals(designer.getStatus()));
+        send(designerId, emitter, SseEmitter.event().name("snapshot").data(snapshot));
+        return emitter;
+    }
+
+    @EventListener
+    public void onCompletionProgress(CompletionProgressEvent event) {
+        if (!subscribers.containsKey(event.designerId())) {
+            return;
+        }
+        fanOutExecutor.execute(() -> broadcast(event));
+    }
+
+    // One task per designer, so a blocked send delays only that designer's subscribers
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((designerId, emitters) -> fanOutExecutor.execute(() ->
+                emitters.forEach(emitter -> send(designerId, emitter, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    private void broadcast(CompletionProgressEvent event) {
+        Set<SseEmitter> emitters = subscribers.get(event.designerId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(event.designerId(), emitter, SseEmitter.event()
+                    .name("completion")
+                    .id(event.completionId())
+                    .data(event));
+        }
+    }
+
+    private void send(String designerId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container completes the emitter, we just stop sending to it
+            log.debug("Dropping SSE subscriber for designer {}: {}", designerId, e.getMessage());
+            unsubscribe(designerId, emitter);
+        }
+    }
+
+    private void unsubscribe(String designerId, SseEmitter emitter) {
+        subscribers.computeIfPresent(designerId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.docusign.service;
+
+import java.util.Map;
+
+public interface ConsolidatedValuesService {
+
+    Map<String, Object> getConsolidatedValues(String designerId);
+
+    void recordSubmission(String designerId, Map<String, Object> fieldValues);
+
+    Map<String, Object> rebuild(String designerId);
+
+    int rebuildAll();
+
+    Map<String, Object> checkConsistency(boolean repair);
+}
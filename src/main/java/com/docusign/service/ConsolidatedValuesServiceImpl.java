@@ -0,0 +1,150 @@
+package com.docusign.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.docusign.entity.ConsolidatedValues;
+import com.docusign.entity.DocumentCompletion;
+import com.docusign.repository.ConsolidatedValuesRepo;
+import com.docusign.repository.DocumentCompletionRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the {@code consolidated_values} projection in step with submissions so
+ * reads are a single lookup by designer id. A designer's document is built
+ * from its completions on the first read, after which submissions only $set
+ * their own fields; the rebuild and consistency check repair anything that
+ * drifted. A rebuild only stores its result if no submission was merged while
+ * it read the completions, and otherwise starts over.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConsolidatedValuesServiceImpl implements ConsolidatedValuesService {
+
+    private final ConsolidatedValuesRepo consolidatedValuesRepo;
+    private final DocumentCompletionRepo completionRepo;
+    private final FieldValueOffloader fieldValueOffloader;
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    @Override
+    public Map<String, Object> getConsolidatedValues(String designerId) {
+        Optional<ConsolidatedValues> stored = consolidatedValuesRepo.findById(designerId);
+        if (stored.isPresent() && stored.get().isComplete()) {
+            return stored.get().getValues() != null
+                    ? fieldValueOffloader.resolve(ConsolidatedValues.decodeKeys(stored.get().getValues()))
+                    : Map.of();
+        }
+        return fieldValueOffloader.resolve(rebuild(designerId));
+    }
+
+    @Override
+    public void recordSubmission(String designerId, Map<String, Object> fieldValues) {
+        consolidatedValuesRepo.mergeValues(designerId, nonEmpty(fieldValues));
+    }
+
+    @Override
+    public Map<String, Object> rebuild(String designerId) {
+        for (int attempt = 1; ; attempt++) {
+            long revision = consolidatedValuesRepo.findById(designerId)
+                    .map(ConsolidatedValues::getRevision)
+                    .orElse(0L);
+            Map<String, Object> merged = computeFromCompletions(designerId);
+            if (consolidatedValuesRepo.replaceValues(designerId, merged, revision)) {
+                return merged;
+            }
+            if (attempt == MAX_REBUILD_ATTEMPTS) {
+                // Left incomplete, so the next read rebuilds it again
+                log.warn("Consolidated values for designer {} kept changing during rebuild", designerId);
+                return merged;
+            }
+        }
+    }
+
+    @Override
+    public int rebuildAll() {
+        List<String> designerIds = completionRepo.findDistinctDesignerIds();
+        designerIds.forEach(this::rebuild);
+        log.info("Rebuilt consolidated values for {} designers", designerIds.size());
+        return designerIds.size();
+    }
+
+    @Override
+    public Map<String, Object> checkConsistency(boolean repair) {
+        List<String> designerIds = completionRepo.findDistinctDesignerIds();
+        List<String> inconsistent = new ArrayList<>();
+
+        for (String designerId : designerIds) {
+            Optional<ConsolidatedValues> stored = consolidatedValuesRepo.findById(designerId);
+            Map<String, Object> expected = computeFromCompletions(designerId);
+            Map<String, Object> actual = stored
+                    .filter(ConsolidatedValues::isComplete)
+                    .map(ConsolidatedValues::getValues)
+                    .map(ConsolidatedValues::decodeKeys)
+                    .orElse(null);
+
+            if (!expected.equals(actual)) {
+                inconsistent.add(designerId);
+                if (repair) {
+                    long revision = stored.map(ConsolidatedValues::getRevision).orElse(0L);
+                    // A submission merged since the read has made the comparison stale anyway
+                    consolidatedValuesRepo.replaceValues(designerId, expected, revision);
+                }
+            }
+        }
+
+        if (!inconsistent.isEmpty()) {
+            log.warn("Consolidated values out of date for {} of {} designers{}",
+                    inconsistent.size(), designerIds.size(), repair ? ", repaired" : "");
+        }
+        return Map.of(
+                "checked", designerIds.size(),
+                "inconsistent", inconsistent,
+                "repaired", repair);
+    }
+
+    // Disabled unless consolidated-values.repair-cron is set
+    @Scheduled(cron = "${consolidated-values.repair-cron:-}")
+    public void scheduledRepair() {
+        checkConsistency(true);
+    }
+
+    // Applied in submission order so the last submission of a field wins, as it does in mergeValues
+    private Map<String, Object> computeFromCompletions(String designerId) {
+        List<DocumentCompletion> completions = new ArrayList<>(completionRepo.findByDesignerId(designerId));
+        completions.sort(Comparator.comparing(DocumentCompletion::getCompletedAt,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Map<String, Object> merged = new HashMap<>();
+        for (DocumentCompletion dc : completions) {
+            if (dc.getFieldValues() != null) {
+                merged.putAll(nonEmpty(dc.getFieldValues()));
+            }
+        }
+        return merged;
+    }
+
+    private static Map<String, Object> nonEmpty(Map<String, Object> fieldValues) {
+        Map<String, Object> result = new HashMap<>();
+        if (fieldValues == null) {
+            return result;
+        }
+        fieldValues.forEach((key, value) -> {
+            if (value != null &&
+                !(value instanceof String str && str.trim().isEmpty())) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+}
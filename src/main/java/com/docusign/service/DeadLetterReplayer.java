@@ -0,0 +1,71 @@
+package com.docusign.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.EmailDeadLetter;
+import com.docusign.exception.ResourceNotFoundException;
+import com.docusign.repository.EmailDeadLetterRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts dead-lettered mail back in the outbox. OTP and user-creation mail are
+ * stored without their secrets, so they are regenerated instead of resent:
+ * an OTP that has not expired yet is replaced by a fresh one, and a user who
+ * has not logged in gets a new initial password. Expired OTPs are dropped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterReplayer {
+
+    private final EmailDeadLetterRepo deadLetterRepo;
+    private final EmailService emailService;
+    private final UserService userService;
+
+    /** Returns false if the dead letter was dropped instead of queued. */
+    public boolean replay(String id) {
+        EmailDeadLetter deadLetter = deadLetterRepo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Dead letter not found with id: " + id));
+        return replay(deadLetter);
+    }
+
+    /** Returns the number of mails queued again; dropped dead letters are not counted. */
+    public int replayAll() {
+        List<EmailDeadLetter> deadLetters = deadLetterRepo.findAll();
+        int replayed = 0;
+        for (EmailDeadLetter deadLetter : deadLetters) {
+            if (replay(deadLetter)) {
+                replayed++;
+            }
+        }
+        log.info("Replayed {} of {} dead-lettered emails", replayed, deadLetters.size());
+        return replayed;
+    }
+
+    private boolean replay(EmailDeadLetter deadLetter) {
+        boolean queued;
+        if (AppConstants.EMAIL_TYPE_OTP.equals(deadLetter.getType())) {
+            queued = deadLetter.getExpiresAt() != null && deadLetter.getExpiresAt().isAfter(LocalDateTime.now());
+            if (queued) {
+                emailService.generateAndSendOtp(deadLetter.getEmail());
+            }
+        } else if (AppConstants.EMAIL_TYPE_USER_CREATION.equals(deadLetter.getType())) {
+            queued = userService.reissueInitialPassword(deadLetter.getEmail());
+        } else {
+            emailService.resendDeadLetter(deadLetter);
+            queued = true;
+        }
+
+        if (!queued) {
+            log.info("Dropping dead-lettered {} email {}: no longer valid", deadLetter.getType(), deadLetter.getId());
+        }
+        deadLetterRepo.deleteById(deadLetter.getId());
+        return queued;
+    }
+}
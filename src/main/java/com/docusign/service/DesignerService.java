@@ -6,14 +6,15 @@ import java.util.Map;
 import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.docusign.dto.DesignerPage;
 import com.docusign.entity.Designer;
 
 @Service
 public interface DesignerService {
 	
-	public List<Designer> findAll();
+	public DesignerPage findAll(String cursor, Integer limit);
 	
-	public List<Designer> findAllCompletedDocuments();
+	public DesignerPage findAllCompletedDocuments(String cursor, Integer limit);
 	
 	public Designer saveDesignerDocument(Map<String,String> body);
 	
@@ -1,16 +1,27 @@
 package com.docusign.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.docusign.constants.AppConstants;
+import com.docusign.dto.DesignerPage;
+import com.docusign.dto.DesignerSummary;
+import com.docusign.entity.BulkPublishJob;
 import com.docusign.entity.Designer;
 import com.docusign.exception.ResourceNotFoundException;
 import com.docusign.repository.DesignerRepo;
+import com.docusign.repository.TitleCounterRepo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,21 +34,79 @@ public class DesignerServiceImpl implements DesignerService {
 	private final DesignerRepo designerRepo;
     private final S3Service s3Service;
     private final DocumentCompletionService documentCompletionService;
+    private final TitleCounterRepo titleCounterRepo;
+    private final BulkPublishService bulkPublishService;
+
+    @Value("${designers.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${designers.max-page-size:200}")
+    private int maxPageSize;
 	
 	private static final String MESSAGE = "Designer not found with id: ";
 	private static final String DOCUMENT = "Document";
+	// Listed by /all. Together with completed, the only statuses a designer
+	// can be given, so every designer is listed by /all or /all/completed
+	private static final List<String> ACTIVE_STATUSES =
+			List.of(AppConstants.STATUS_DRAFT, AppConstants.STATUS_PUBLISHED, AppConstants.STATUS_TEMPLATE);
+	private static final Pattern TITLE_SUFFIX = Pattern.compile("(.*)\\s\\((\\d+)\\)$");
 	
 	@Override
-	public List<Designer> findAll() {
-	    return designerRepo.findByStatusNot(AppConstants.STATUS_COMPLETED);
+	public DesignerPage findAll(String cursor, Integer limit) {
+	    return findPage(ACTIVE_STATUSES, cursor, limit);
 	}
 
 
 	@Override
-	public List<Designer> findAllCompletedDocuments() {
-	    return designerRepo.findByStatus(AppConstants.STATUS_COMPLETED);
+	public DesignerPage findAllCompletedDocuments(String cursor, Integer limit) {
+	    return findPage(List.of(AppConstants.STATUS_COMPLETED), cursor, limit);
 	}
 
+    // The cursor is the (updatedAt, id) of the last designer on the previous
+    // page, so each page is one bounded index scan however deep the client goes.
+    // Designers saved before updatedAt was audited have none; their cursor
+    // leaves the timestamp empty.
+    private DesignerPage findPage(List<String> statuses, String cursor, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+
+        Instant updatedBefore = null;
+        String idBefore = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String decoded = decodeCursor(cursor);
+            int separator = decoded.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            try {
+                updatedBefore = separator == 0 ? null : Instant.ofEpochMilli(Long.parseLong(decoded.substring(0, separator)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+            idBefore = decoded.substring(separator + 1);
+        }
+
+        // One extra row tells us whether there is a next page
+        List<DesignerSummary> rows = designerRepo.findSummaries(statuses, updatedBefore, idBefore, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new DesignerPage(rows, null);
+        }
+        List<DesignerSummary> items = rows.subList(0, pageSize);
+        DesignerSummary last = items.get(pageSize - 1);
+        String updatedAt = last.updatedAt() != null ? String.valueOf(last.updatedAt().toEpochMilli()) : "";
+        return new DesignerPage(items, encodeCursor(updatedAt + ":" + last.id()));
+    }
+
+    private static String encodeCursor(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
 
 	@Override
 	public Designer saveDesignerDocument(Map<String, String> body) {
@@ -52,24 +121,38 @@ public class DesignerServiceImpl implements DesignerService {
         return designerRepo.save(d);
 	}
 
+    // Every title comes from the counter for the title as given: the first
+    // create gets it unchanged, later ones "Title (1)", "Title (2)", ... Each
+    // value is handed out once by an atomic $inc, so concurrent creates never
+    // share a title. A counter is seeded from the existing titles on first use.
     private String generateUniqueTitle(String title) {
-        if (!designerRepo.existsByTitle(title)) {
-            return title;
+        Long suffix = titleCounterRepo.nextSuffix(title);
+        if (suffix == null) {
+            titleCounterRepo.seed(title, highestTakenSuffix(title));
+            suffix = titleCounterRepo.nextSuffix(title);
         }
-
-        String baseTitle = title;
-        int counter = 1;
-
-        if (title.matches(".*\\s\\(\\d+\\)$")) {
-            baseTitle = title.substring(0, title.lastIndexOf(" ("));
+        if (suffix > 0) {
+            return String.format("%s (%d)", title, suffix);
         }
 
-        String newTitle;
-        do {
-            newTitle = String.format("%s (%d)", baseTitle, counter++);
-        } while (designerRepo.existsByTitle(newTitle));
+        // "Title (n)" taken as given keeps the counter for "Title" from handing out n later
+        Matcher suffixed = TITLE_SUFFIX.matcher(title);
+        if (suffixed.matches()) {
+            titleCounterRepo.raise(suffixed.group(1), Long.parseLong(suffixed.group(2)));
+        }
+        return title;
+    }
 
-        return newTitle;
+    private long highestTakenSuffix(String baseTitle) {
+        long highest = -1;
+        for (String taken : designerRepo.findTitlesWithBase(baseTitle)) {
+            Matcher suffixed = TITLE_SUFFIX.matcher(taken);
+            long suffix = suffixed.matches() && suffixed.group(1).equals(baseTitle)
+                    ? Long.parseLong(suffixed.group(2))
+                    : 0;
+            highest = Math.max(highest, suffix);
+        }
+        return highest;
     }
 
 
@@ -84,27 +167,36 @@ public class DesignerServiceImpl implements DesignerService {
 
 	@Override
 	public Designer updateDesignerDocument(String id, Designer designer) {
-		 Designer document = designerRepo.findById(id).orElseThrow(() -> new ResourceNotFoundException(MESSAGE + id));
+	        // Only the edited fields are written, so the counters and other
+	        // fields maintained with atomic updates are never overwritten
+	        Map<String, Object> edits = new LinkedHashMap<>();
 	        if (designer.getS3Key() != null) {
-	        	document.setS3Key(designer.getS3Key());
+	        	edits.put("s3Key", designer.getS3Key());
 	        }
 	        if (designer.getPages() > 0) {
-	        	document.setPages(designer.getPages());
+	        	edits.put("pages", designer.getPages());
 	        }
 	        if (!designer.getRecipients().isEmpty()) {
-	        	document.setRecipients(designer.getRecipients());
+	        	edits.put("recipients", designer.getRecipients());
 	        }
 	        if (!designer.getFields().isEmpty()) {
-	        	document.setFields(designer.getFields());
+	        	edits.put("fields", designer.getFields());
 	        }
 	        if (designer.getStatus() != null) {
-	        	document.setStatus(designer.getStatus());
+	        	if (!ACTIVE_STATUSES.contains(designer.getStatus())
+	        			&& !AppConstants.STATUS_COMPLETED.equals(designer.getStatus())) {
+	        		throw new IllegalArgumentException("Unsupported status: " + designer.getStatus());
+	        	}
+	        	edits.put("status", designer.getStatus());
 	        }
 	        if (designer.getType() != null) {
-	        	document.setType(designer.getType());
+	        	edits.put("type", designer.getType());
+	        }
+
+	        Designer document = designerRepo.updateFields(id, edits);
+	        if (document == null) {
+	        	throw new ResourceNotFoundException(MESSAGE + id);
 	        }
-	        
-	        designerRepo.save(document);
 	        return document;
 	}
 
@@ -149,64 +241,22 @@ public class DesignerServiceImpl implements DesignerService {
         designer.setStatus(AppConstants.STATUS_PUBLISHED);
         List<Map<String, Object>> users = designer.getRecipients();
         documentCompletionService.sendCompletionEmails(designer, users);
-        designerRepo.save(designer);
+        designerRepo.updateStatus(id, AppConstants.STATUS_PUBLISHED);
 		return designer;
 	}
 
 
 	@Override
 	public Map<String, Object> bulkPublish(String id, List<Map<String, Object>> targetUsers) {
-		Designer template = designerRepo.findById(id).orElseThrow(() -> new ResourceNotFoundException(MESSAGE + id));
-		
-		int count = 0;
-		for (Map<String, Object> userData : targetUsers) {
-			try {
-				Designer clone = new Designer();
-				clone.setId(UUID.randomUUID().toString());
-				
-				String userDisplayName = (String) userData.get("firstName");
-				if (userDisplayName == null || userDisplayName.isEmpty()) {
-					userDisplayName = (String) userData.get("userName");
-				}
-				
-				clone.setTitle(String.format("%s - %s", template.getTitle(), userDisplayName));
-				clone.setS3Key(template.getS3Key());
-				clone.setPages(template.getPages());
-				clone.setOwnerUserId(template.getOwnerUserId());
-				clone.setStatus(AppConstants.STATUS_PUBLISHED);
-				clone.setType(DOCUMENT);
-				clone.setCreatedAt(java.time.Instant.now());
-				clone.setUpdatedAt(java.time.Instant.now());
-				
-				// Set this specific user as the recipient
-				clone.setRecipients(List.of(userData));
-				
-				// Clone fields and reassign to this user
-				String targetUserId = (String) userData.get("id");
-				if (targetUserId == null) {
-					targetUserId = (String) userData.get("userId");
-				}
-				
-				final String finalUserId = targetUserId;
-				List<Map<String, Object>> clonedFields = new java.util.ArrayList<>();
-				for (Map<String, Object> field : template.getFields()) {
-					Map<String, Object> newField = new java.util.HashMap<>(field);
-					newField.put("userId", finalUserId);
-					newField.put("id", "field_" + System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 5));
-					clonedFields.add(newField);
-				}
-				clone.setFields(clonedFields);
-				
-				designerRepo.save(clone);
-				
-				documentCompletionService.sendCompletionEmails(clone, List.of(userData));
-				count++;
-			} catch (Exception e) {
-				log.error("Failed to clone document for user {}: ", userData.get("userName"), e);
-			}
-		}
+		BulkPublishJob job = bulkPublishService.startJob(id, targetUsers);
 		
-		return Map.of("message", "Bulk publish completed", "clonedCount", count);
+		Map<String, Object> response = new HashMap<>();
+		response.put("message", "Bulk publish started");
+		response.put("jobId", job.getId());
+		response.put("status", AppConstants.BULK_JOB_STATUS_RUNNING);
+		response.put("totalUsers", job.getTotalUsers());
+		response.put("totalChunks", job.getTotalChunks());
+		return response;
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.docusign.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.docusign.entity.DocumentCompletion;
+import com.docusign.repository.DocumentCompletionRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Captures submitted documents in the background: the designer document is
+ * stored under {@code capture-docs/} keyed by its content (see
+ * {@link S3Service#captureObject}) and the completion records that key. The
+ * completion row is the queue: a submission is saved with
+ * {@code captureStatus = pending}, and the copy starts once that write has
+ * committed. A copy that fails, or whose node dies mid-copy, is picked up
+ * again by the recovery sweep after {@code capture.lease-seconds}, up to
+ * {@code capture.max-attempts} tries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentCaptureQueue {
+
+    private static final String CAPTURE_PREFIX = "capture-docs";
+
+    private final DocumentCompletionRepo completionRepo;
+    private final S3Service s3Service;
+    private final FanOutExecutor fanOutExecutor;
+
+    @Value("${capture.lease-seconds:900}")
+    private long leaseSeconds;
+
+    @Value("${capture.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${capture.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    /** Starts the copy for a completion already saved as pending. */
+    public void enqueue(DocumentCompletion completion) {
+        fanOutExecutor.execute(() -> copy(completion));
+    }
+
+    @Scheduled(fixedDelayString = "${capture.sweep-interval-ms:60000}")
+    public void recoverStale() {
+        Instant now = Instant.now();
+        Instant claimedBefore = now.minus(Duration.ofSeconds(leaseSeconds));
+
+        for (DocumentCompletion stale : completionRepo.findStaleCaptures(claimedBefore, sweepBatchSize)) {
+            DocumentCompletion claimed = completionRepo.claimCapture(stale.getId(), claimedBefore, now);
+            if (claimed == null) {
+                continue;
+            }
+            if (claimed.getCaptureAttempts() > maxAttempts) {
+                completionRepo.markCaptureFailed(claimed.getId(), "Gave up after " + maxAttempts + " attempts", true);
+                log.error("Giving up on capture of {} for completion {}", claimed.getCaptureSourceKey(), claimed.getId());
+                continue;
+            }
+            log.info("Retrying capture of {} for completion {} (attempt {})",
+                    claimed.getCaptureSourceKey(), claimed.getId(), claimed.getCaptureAttempts());
+            copy(claimed);
+        }
+    }
+
+    private void copy(DocumentCompletion completion) {
+        String id = completion.getId();
+        int attempt = completion.getCaptureAttempts() != null ? completion.getCaptureAttempts() : 1;
+
+        s3Service.captureObject(completion.getCaptureSourceKey(), CAPTURE_PREFIX)
+                .whenComplete((captureKey, error) -> {
+                    if (error == null) {
+                        completionRepo.markCaptured(id, captureKey);
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    completionRepo.markCaptureFailed(id, cause.getMessage(), attempt >= maxAttempts);
+                });
+    }
+}
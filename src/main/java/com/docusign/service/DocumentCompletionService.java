@@ -1,24 +1,51 @@
 package com.docusign.service;
 
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
+import com.docusign.dto.DocumentOpenView;
 import com.docusign.entity.Designer;
 import com.docusign.entity.DocumentCompletion;
 
 public interface DocumentCompletionService {
 
-    String saveCompletedDocument(
+    /**
+     * Saves a submission and returns the completion. Its captureKey is only
+     * set once the asynchronous capture copy has finished.
+     */
+    DocumentCompletion saveCompletedDocument(
             String designerId,
             String userId,
             Map<String, Object> fieldValues,
             String token
     );
 
-    Map<String, Object> getDocumentForCompletion(String token);
+    /**
+     * Loads the completion, its designer, the consolidated values and, for
+     * internal recipients, the user, with one read each.
+     */
+    DocumentOpenView openDocument(String token);
 
     void sendCompletionEmails(Designer designer, List<Map<String, Object>> users);
+
+    /**
+     * Bulk-publish counterpart of {@link #sendCompletionEmails}: creates one
+     * pending completion per clone for its single recipient, with one bulk
+     * insert for the whole batch, and queues the emails before returning.
+     * Clones that already have a completion keep it and get their email
+     * queued again, so a retried batch re-sends invitations instead of
+     * losing them.
+     */
+    void sendCloneCompletionEmails(List<Designer> clones);
     DocumentCompletion getCompletionByToken(String token);
     Map<String, Object> getConsolidatedValues(String designerId);
+
+    /**
+     * Writes the designer's completions to {@code out} as NDJSON, one row per
+     * line, and returns the number of rows written.
+     */
+    long exportCompletions(String designerId, OutputStream out) throws IOException;
 }
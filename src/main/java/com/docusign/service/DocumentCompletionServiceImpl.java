@@ -1,63 +1,146 @@
 package com.docusign.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.docusign.constants.AppConstants;
+import com.docusign.dto.CompletionEmail;
+import com.docusign.dto.CompletionProgressEvent;
+import com.docusign.dto.DocumentOpenView;
 import com.docusign.dto.UserEmailContext;
 import com.docusign.entity.Designer;
 import com.docusign.entity.DocumentCompletion;
+import com.docusign.entity.User;
 import com.docusign.exception.ResourceNotFoundException;
 import com.docusign.repository.DesignerRepo;
 import com.docusign.repository.DocumentCompletionRepo;
+import com.docusign.repository.UserRepo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class DocumentCompletionServiceImpl implements DocumentCompletionService {
 
     private final DocumentCompletionRepo completionRepo;
     private final DesignerRepo designerRepo;
+    private final UserRepo userRepo;
     private final EmailService emailService;
     private final S3Service s3Service;
+    private final DocumentCaptureQueue documentCaptureQueue;
+    private final FinalDocumentNotifier finalDocumentNotifier;
+    private final ConsolidatedValuesService consolidatedValuesService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FieldValueOffloader fieldValueOffloader;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
+    @Value("${completion.follow-up.grace-seconds:60}")
+    private long followUpGraceSeconds;
+
+    @Value("${completion.follow-up.sweep-batch-size:100}")
+    private int followUpBatchSize;
+
+    @Value("${export.cursor-batch-size:500}")
+    private int exportBatchSize;
+
+    @Value("${export.flush-every-rows:500}")
+    private int exportFlushEveryRows;
+
     // -------------------------------------------------------------------------
     // Send completion email
     // -------------------------------------------------------------------------
     @Override
     public void sendCompletionEmails(Designer designer, List<Map<String, Object>> users) {
 
-        for (Map<String, Object> user : users) {
-            UserEmailContext context = buildUserContext(user);
-
-            validateEmail(context);
+        // Validate every recipient before writing anything
+        List<UserEmailContext> contexts = users.stream()
+                .map(this::buildUserContext)
+                .toList();
+        contexts.forEach(this::validateEmail);
+
+        List<DocumentCompletion> completions = contexts.stream()
+                .map(context -> createCompletionRecord(designer, context))
+                .toList();
+
+        completionRepo.insertAllUnordered(completions);
+        log.info("Saved {} completion records for designer {}", completions.size(), designer.getId());
+
+        int expectedCompletions = designer.getRecipients() != null ? designer.getRecipients().size() : users.size();
+        designerRepo.setExpectedCompletions(designer.getId(), expectedCompletions);
+        designer.setExpectedCompletions(expectedCompletions);
+
+        List<CompletionEmail> emails = new ArrayList<>(completions.size());
+        for (int i = 0; i < completions.size(); i++) {
+            UserEmailContext context = contexts.get(i);
+            emails.add(new CompletionEmail(
+                    context.email(),
+                    context.isExternal() ? "User" : context.userName(),
+                    designer.getTitle(),
+                    buildCompletionLink(completions.get(i))
+            ));
+        }
 
-            DocumentCompletion completion =
-                    createCompletionRecord(designer, context);
+        // Queued before returning, so a publish that succeeds has its invitations in the outbox
+        emailService.sendDocumentCompletionEmails(emails);
+        log.info("Queued {} completion emails for designer {}", emails.size(), designer.getId());
+    }
+    
+    @Override
+    public void sendCloneCompletionEmails(List<Designer> clones) {
 
-            completionRepo.save(completion);
-            log.info("Completion record saved in db: {}", completion);
+        Map<String, DocumentCompletion> existing = new HashMap<>();
+        completionRepo.findByDesignerIdIn(clones.stream().map(Designer::getId).toList())
+                .forEach(completion -> existing.put(completion.getDesignerId(), completion));
 
-            String completionLink = buildCompletionLink(completion);
+        List<DocumentCompletion> created = new ArrayList<>();
+        List<CompletionEmail> emails = new ArrayList<>(clones.size());
+        for (Designer clone : clones) {
+            UserEmailContext context = buildUserContext(clone.getRecipients().get(0));
+            validateEmail(context);
 
-            sendCompletionEmailSafely(designer, context, completionLink);
+            DocumentCompletion completion = existing.get(clone.getId());
+            if (completion == null) {
+                completion = createCompletionRecord(clone, context);
+                created.add(completion);
+            }
+            emails.add(new CompletionEmail(
+                    context.email(),
+                    context.isExternal() ? "User" : context.userName(),
+                    clone.getTitle(),
+                    buildCompletionLink(completion)
+            ));
         }
+
+        completionRepo.insertAllUnordered(created);
+        emailService.sendDocumentCompletionEmails(emails);
+        log.info("Saved {} completion records and queued {} emails for {} clones",
+                created.size(), emails.size(), clones.size());
     }
-    
+
     private UserEmailContext buildUserContext(Map<String, Object> user) {
 
         String userId = (String) user.get("id");
@@ -91,6 +174,9 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
 
         DocumentCompletion completion = new DocumentCompletion();
 
+        // Assigned up front so the bulk insert leaves every record with its id
+        completion.setId(new ObjectId().toHexString());
+        completion.setVersion(0L);
         completion.setDesignerId(designer.getId());
         completion.setUserId(context.isExternal() ? context.email() : context.userId());
         completion.setExternal(context.isExternal());
@@ -107,56 +193,15 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
                "?isExternal=" + completion.isExternal();
     }
 
-    private void sendCompletionEmailSafely(
-            Designer designer,
-            UserEmailContext context,
-            String completionLink) {
-
-        try {
-            emailService.sendDocumentCompletionEmail(
-                context.email(),
-                context.isExternal() ? "User" : context.userName(),
-                designer.getTitle(),
-                completionLink
-            );
-        } catch (Exception e) {
-            log.error("Failed to send completion email to {}", context.email(), e);
-            throw new ResourceNotFoundException(
-                "Failed to send email to " + context.email() + " "+ e
-            );
-        }
-    }
-
-
-
-
-
     // -------------------------------------------------------------------------
     // Save completed document (controller passes designerId only)
     // -------------------------------------------------------------------------
     @Override
-    public String saveCompletedDocument(
+    public DocumentCompletion saveCompletedDocument(
             String designerId,
             String userId,
             Map<String, Object> fieldValues,
             String token
-    ) {
-        Designer designer = designerRepo.findById(designerId)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Designer not found")
-                );
-
-        return saveCompletedDocument(designer, userId, fieldValues, token);
-    }
-
-    // -------------------------------------------------------------------------
-    // Core save logic
-    // -------------------------------------------------------------------------
-    private String saveCompletedDocument(
-            Designer designer,
-            String userId,
-            Map<String, Object> fieldValues,
-            String token
     ) {
         DocumentCompletion completion =
                 completionRepo.findByTokenAndUserId(token, userId)
@@ -164,91 +209,155 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
                                 new ResourceNotFoundException("Invalid completion token")
                         );
 
-        if (!completion.getDesignerId().equals(designer.getId())) {
+        if (!completion.getDesignerId().equals(designerId)) {
             throw new ResourceNotFoundException("Token does not match designer");
         }
 
+        // Double-clicks and client retries get the stored result back, and
+        // finish the follow-ups if the first request failed part way
+        if (AppConstants.STATUS_COMPLETED.equals(completion.getStatus())) {
+            log.info("Completion {} was already submitted, ignoring duplicate", completion.getId());
+            finishPendingFollowUps(completion);
+            return completion;
+        }
+
+        Designer designer = designerRepo.findById(designerId)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Designer not found")
+                );
+
         String originalKey = designer.getS3Key();
         if (originalKey == null || originalKey.isEmpty()) {
             throw new ResourceNotFoundException("Designer document not found");
         }
 
-        String filename =
-                originalKey.substring(originalKey.lastIndexOf("/") + 1);
+        // Signatures and images go to S3; the completion keeps references
+        Map<String, Object> storedValues = fieldValueOffloader.offload(fieldValues);
 
-        String captureKey =
-                String.format(
-                        "capture-docs/%s/%s",
-                        designer.getId(),
-                        filename
-                );
+        // Only one concurrent submission gets past this; the rest see null
+        DocumentCompletion completed = completionRepo.completeSubmission(
+                token, userId, designerId, storedValues, originalKey, Instant.now());
 
-        try {
-            s3Service.copyObject(originalKey, captureKey);
-        } catch (Exception e) {
-            log.error("Failed to copy document from {} to {}: ", originalKey, captureKey, e);
-            throw new InternalError(
-                    "Failed to copy document to capture-docs",
-                    e
-            );
+        if (completed == null) {
+            DocumentCompletion current = completionRepo.findByTokenAndUserId(token, userId)
+                    .filter(c -> AppConstants.STATUS_COMPLETED.equals(c.getStatus()))
+                    .orElseThrow(() ->
+                            new ResourceNotFoundException("Invalid completion token")
+                    );
+            log.info("Completion {} was submitted concurrently, ignoring duplicate", current.getId());
+            finishPendingFollowUps(current);
+            return current;
         }
 
-        completion.setFieldValues(fieldValues);
-        completion.setCaptureKey(captureKey);
-        completion.setStatus(AppConstants.STATUS_COMPLETED);
-        completion.setCompletedAt(Instant.now());
+        // The copy sets captureKey when done; the capture queue retries it if it fails
+        documentCaptureQueue.enqueue(completed);
+        Designer progress = runFollowUps(designer, completed, false);
+
+        eventPublisher.publishEvent(new CompletionProgressEvent(
+                designerId,
+                completed.getId(),
+                completed.getUserId(),
+                progress != null ? progress.getCompletedCount() : null,
+                progress != null ? progress.getExpectedCompletions() : null,
+                AppConstants.STATUS_COMPLETED.equals(designer.getStatus()),
+                completed.getCompletedAt()
+        ));
+
+        return completed;
+    }
 
-        completionRepo.save(completion);
+    // -------------------------------------------------------------------------
+    // Follow-ups of a submission. Each step is safe to repeat, and countedAt is
+    // only set once all of them are done, so a request that fails part way is
+    // finished by a client retry or by the sweep.
+    // -------------------------------------------------------------------------
+    private Designer runFollowUps(Designer designer, DocumentCompletion completion, boolean retry) {
+        consolidatedValuesService.recordSubmission(designer.getId(), completion.getFieldValues());
+        Designer progress = checkAndNotifyCompletion(designer, completion.getId(), retry);
+        completionRepo.markCounted(completion.getId(), Instant.now());
+        return progress;
+    }
 
-        checkAndNotifyCompletion(designer);
+    private void finishPendingFollowUps(DocumentCompletion completion) {
+        if (!completionRepo.isCountPending(completion.getId())) {
+            return;
+        }
+        Designer designer = designerRepo.findById(completion.getDesignerId())
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Designer not found")
+                );
+        runFollowUps(designer, completion, true);
+    }
 
-        return captureKey;
+    // Completions younger than the grace period may still be finishing on the request thread
+    @Scheduled(fixedDelayString = "${completion.follow-up.sweep-interval-ms:60000}")
+    public void retryPendingFollowUps() {
+        Instant completedBefore = Instant.now().minusSeconds(followUpGraceSeconds);
+        for (DocumentCompletion completion : completionRepo.findCountPending(completedBefore, followUpBatchSize)) {
+            try {
+                Designer designer = designerRepo.findById(completion.getDesignerId()).orElse(null);
+                if (designer == null) {
+                    // Nothing left to count against
+                    completionRepo.markCounted(completion.getId(), Instant.now());
+                    continue;
+                }
+                log.info("Finishing follow-ups for completion {}", completion.getId());
+                runFollowUps(designer, completion, true);
+            } catch (Exception e) {
+                log.error("Failed to finish follow-ups for completion {}: ", completion.getId(), e);
+            }
+        }
     }
 
     // -------------------------------------------------------------------------
-    // Check if all recipients completed & notify
+    // Check if all recipients completed & notify; returns the updated counters
     // -------------------------------------------------------------------------
-    private void checkAndNotifyCompletion(Designer designer) {
+    private Designer checkAndNotifyCompletion(Designer designer, String completionId, boolean retry) {
 
         List<Map<String, Object>> recipients = designer.getRecipients();
         if (recipients == null || recipients.isEmpty()) {
-            return;
+            return null;
         }
 
-        long completedCount =
-                completionRepo.countByDesignerIdAndStatus(
-                        designer.getId(),
-                        AppConstants.STATUS_COMPLETED
-                );
-
-        if (completedCount < recipients.size()) {
-            return;
+        Designer progress = designerRepo.incrementCompletedCount(designer.getId(), completionId);
+        if (progress == null || !allRecipientsCompleted(progress, recipients.size())) {
+            return progress;
         }
 
+        // Only the signer whose update completes the designer sends notifications.
+        // A retry of that signer's follow-ups finds the designer already marked
+        // and sends them again; the notices are keyed by designer and address.
+        if (!designerRepo.markCompleted(designer.getId()) && !retry) {
+            return progress;
+        }
         designer.setStatus(AppConstants.STATUS_COMPLETED);
-        designerRepo.save(designer);
 
         String finalLink =
                 frontendUrl + "/documents/final/" + designer.getId();
 
-        for (Map<String, Object> recipient : recipients) {
+        // Stored per recipient and sent as a digest when the window closes
+        finalDocumentNotifier.notify(
+                designer.getId(),
+                designer.getTitle(),
+                finalLink,
+                recipients
+        );
+        return progress;
+    }
 
-            String email = (String) recipient.get("email");
-            String name = (String) recipient.get("name");
+    private boolean allRecipientsCompleted(Designer progress, int recipientCount) {
 
-            if (email != null) {
-                try {
-                    emailService.sendFinalDocumentEmail(
-                            email,
-                            name,
-                            designer.getTitle(),
-                            finalLink
-                    );
-                } catch (Exception e) {
-                    log.error("Failed to send final email to {}: ", email, e);
-                }
-            }
+        if (progress.getExpectedCompletions() != null) {
+            return progress.getCompletedCount() >= progress.getExpectedCompletions();
         }
+
+        // Designers published before the counters existed
+        long completedCount =
+                completionRepo.countByDesignerIdAndStatus(
+                        progress.getId(),
+                        AppConstants.STATUS_COMPLETED
+                );
+        return completedCount >= recipientCount;
     }
 
     // -------------------------------------------------------------------------
@@ -270,10 +379,10 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
     }
 
     // -------------------------------------------------------------------------
-    // Get document + view URL for completion page
+    // Open document from a completion link
     // -------------------------------------------------------------------------
     @Override
-    public Map<String, Object> getDocumentForCompletion(String token) {
+    public DocumentOpenView openDocument(String token) {
 
         DocumentCompletion completion = getCompletionByToken(token);
 
@@ -288,6 +397,14 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
             );
         }
 
+        User user = null;
+        if (!completion.isExternal()) {
+            user = userRepo.findById(completion.getUserId())
+                    .orElseThrow(() ->
+                            new UsernameNotFoundException("User not found: " + completion.getUserId())
+                    );
+        }
+
         String viewUrl;
         try {
             viewUrl = s3Service.generatePresignedGetUrl(designer.getS3Key());
@@ -299,21 +416,18 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
             );
         }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("designerId", designer.getId());
-        response.put("title", designer.getTitle() != null
-                ? designer.getTitle()
-                : "Document");
-        response.put("fields", designer.getFields() != null
-                ? designer.getFields()
-                : List.of());
-        response.put("currentUserId", completion.getUserId());
-        response.put("token", token);
-        response.put("viewUrl", viewUrl);
-        response.put("status", completion.getStatus());
-        response.put("consolidatedData", getConsolidatedValues(designer.getId()));
-
-        return response;
+        return new DocumentOpenView(
+                designer.getId(),
+                designer.getTitle() != null ? designer.getTitle() : AppConstants.DEFAULT_DOCUMENT_TITLE,
+                designer.getFields() != null ? designer.getFields() : List.of(),
+                completion.getUserId(),
+                token,
+                viewUrl,
+                completion.getStatus(),
+                getConsolidatedValues(designer.getId()),
+                completion.isExternal(),
+                user
+        );
     }
 
     // -------------------------------------------------------------------------
@@ -321,23 +435,40 @@ public class DocumentCompletionServiceImpl implements DocumentCompletionService
     // -------------------------------------------------------------------------
     @Override
     public Map<String, Object> getConsolidatedValues(String designerId) {
+        return consolidatedValuesService.getConsolidatedValues(designerId);
+    }
 
-        List<DocumentCompletion> completions =
-                completionRepo.findByDesignerId(designerId);
-
-        Map<String, Object> merged = new HashMap<>();
-
-        for (DocumentCompletion dc : completions) {
-            if (dc.getFieldValues() != null) {
-                dc.getFieldValues().forEach((key, value) -> {
-                    if (value != null &&
-                        !(value instanceof String str && str.trim().isEmpty())) {
-                        merged.put(key, value);
-                    }
-                });
+    // -------------------------------------------------------------------------
+    // NDJSON export
+    // -------------------------------------------------------------------------
+    @Override
+    public long exportCompletions(String designerId, OutputStream out) throws IOException {
+
+        // Flushing is driven by the row count below, not by every write
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        long rows = 0;
+        try (Stream<DocumentCompletion> completions =
+                     completionRepo.streamByDesignerId(designerId, exportBatchSize);
+             JsonGenerator generator = writer.createGenerator(out)) {
+
+            // Rows are newline-terminated instead of space-separated
+            generator.setRootValueSeparator(null);
+
+            // Blocking writes to a slow client stall the cursor, so at most one
+            // batch plus the unflushed rows is held in memory
+            Iterator<DocumentCompletion> iterator = completions.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++rows % exportFlushEveryRows == 0) {
+                    generator.flush();
+                }
             }
         }
-        return merged;
+        log.info("Exported {} completions for designer {}", rows, designerId);
+        return rows;
     }
 
 }
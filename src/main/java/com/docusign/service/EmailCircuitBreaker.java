@@ -0,0 +1,93 @@
+package com.docusign.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stops the dispatcher from calling the email provider while it is unhealthy.
+ * After {@code failureThreshold} consecutive transport failures the breaker
+ * opens and dispatcher workers stop claiming mail; once the open period has
+ * passed a single probe batch is let through, and its outcome closes or
+ * re-opens the breaker.
+ */
+@Component
+@Slf4j
+public class EmailCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean probeInFlight;
+
+    public EmailCircuitBreaker(
+            @Value("${email.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${email.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = Duration.ofSeconds(openSeconds).toMillis();
+    }
+
+    /**
+     * Returns whether the caller may send now. Every granted permit must be
+     * followed by {@link #recordSuccess()}, {@link #recordFailure()} or
+     * {@link #release()}.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() < openUntil) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                log.info("Email circuit breaker half-open, sending probe batch");
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /** The provider answered, even if it rejected the payload itself. */
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Email circuit breaker closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntil = System.currentTimeMillis() + openMillis;
+            log.warn("Email circuit breaker opened after {} consecutive failures, pausing sends for {} ms",
+                    consecutiveFailures, openMillis);
+        }
+    }
+
+    /** The permit was not used, e.g. there was nothing to send. */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,222 @@
+package com.docusign.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docusign.dto.EmailMessage;
+import com.docusign.entity.EmailQueue;
+import com.docusign.exception.EmailDeliveryException;
+import com.docusign.repository.EmailRepo;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the email outbox ({@code emails} collection) with a pool of background
+ * workers. Each worker atomically claims a batch of queued emails, waiting up to
+ * the linger time for a partial batch to fill, hands it to the configured
+ * {@link EmailTransport} in one call and records the outcome on the rows, so
+ * queued mail survives a restart and request threads only pay for the insert.
+ *
+ * <p>Failed sends are retried with jittered exponential backoff; mail that
+ * exhausts its attempts or is rejected outright is moved to the dead-letter
+ * collection. While {@link EmailCircuitBreaker} is open workers leave the
+ * queue untouched.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailDispatcher {
+
+    private final EmailRepo emailRepo;
+    private final EmailTransport emailTransport;
+    private final EmailCircuitBreaker circuitBreaker;
+    private final EmailMetrics emailMetrics;
+
+    @Value("${email.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${email.dispatcher.workers:4}")
+    private int workers;
+
+    @Value("${email.dispatcher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${email.dispatcher.linger-ms:200}")
+    private long lingerMs;
+
+    @Value("${email.dispatcher.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    @Value("${email.dispatcher.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${email.dispatcher.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${email.dispatcher.retry-base-delay-ms:2000}")
+    private long retryBaseDelayMs;
+
+    @Value("${email.dispatcher.retry-max-delay-seconds:600}")
+    private long retryMaxDelaySeconds;
+
+    private LeaseWorkerPool pool;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Email dispatcher disabled");
+            return;
+        }
+        LeaseRecovery recovery = new LeaseRecovery("emails", Duration.ofSeconds(leaseSeconds),
+                emailRepo::releaseStaleClaims);
+        pool = new LeaseWorkerPool("email-dispatcher", workers, pollIntervalMs, recovery, this::dispatchNext);
+        pool.start();
+        log.info("Email dispatcher started with {} workers", workers);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (pool != null) {
+            pool.stop();
+        }
+    }
+
+    /**
+     * Wakes idle workers so freshly queued mail is picked up without waiting
+     * for the next poll.
+     */
+    public void signal() {
+        if (pool != null) {
+            pool.signalOne();
+        }
+    }
+
+    private boolean dispatchNext(String workerId) throws InterruptedException {
+        if (!circuitBreaker.tryAcquire()) {
+            return false;
+        }
+
+        List<EmailQueue> batch;
+        try {
+            batch = claimBatch(workerId);
+        } catch (RuntimeException | InterruptedException e) {
+            circuitBreaker.release();
+            throw e;
+        }
+        if (batch.isEmpty()) {
+            circuitBreaker.release();
+            return false;
+        }
+
+        try {
+            send(batch);
+            circuitBreaker.recordSuccess();
+            emailRepo.markSent(ids(batch), workerId, Instant.now());
+            emailMetrics.recordSent(batch.size());
+        } catch (EmailDeliveryException e) {
+            if (!e.isRetryable() && batch.size() > 1) {
+                // One bad message rejects the whole batch; resend individually to isolate it
+                circuitBreaker.recordSuccess();
+                sendIndividually(batch, workerId);
+            } else {
+                handleFailure(batch, workerId, e);
+            }
+        } catch (Exception e) {
+            handleFailure(batch, workerId, e);
+        }
+        return true;
+    }
+
+    private List<EmailQueue> claimBatch(String workerId) throws InterruptedException {
+        int limit = Math.min(batchSize, emailTransport.maxBatchSize());
+        List<EmailQueue> batch = new ArrayList<>(emailRepo.claimBatch(workerId, Instant.now(), limit));
+        if (!batch.isEmpty() && batch.size() < limit && lingerMs > 0) {
+            Thread.sleep(lingerMs);
+            batch.addAll(emailRepo.claimBatch(workerId, Instant.now(), limit - batch.size()));
+        }
+        return batch;
+    }
+
+    private void sendIndividually(List<EmailQueue> batch, String workerId) {
+        for (EmailQueue email : batch) {
+            try {
+                send(List.of(email));
+                emailRepo.markSent(List.of(email.getObjectId()), workerId, Instant.now());
+                emailMetrics.recordSent(1);
+            } catch (Exception e) {
+                handleFailure(List.of(email), workerId, e);
+            }
+        }
+    }
+
+    private void send(List<EmailQueue> batch) {
+        long start = System.nanoTime();
+        try {
+            emailTransport.send(batch.stream().map(this::toMessage).toList());
+            emailMetrics.recordSend(System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            emailMetrics.recordSend(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    private void handleFailure(List<EmailQueue> batch, String workerId, Exception e) {
+        boolean retryable = !(e instanceof EmailDeliveryException delivery) || delivery.isRetryable();
+        if (retryable) {
+            circuitBreaker.recordFailure();
+        } else {
+            circuitBreaker.recordSuccess();
+        }
+
+        List<EmailQueue> exhausted = new ArrayList<>();
+        Map<Integer, List<ObjectId>> retryByAttempts = new TreeMap<>();
+        for (EmailQueue email : batch) {
+            if (!retryable || email.getAttempts() >= maxAttempts) {
+                exhausted.add(email);
+            } else {
+                retryByAttempts.computeIfAbsent(email.getAttempts(), k -> new ArrayList<>()).add(email.getObjectId());
+            }
+        }
+
+        if (!exhausted.isEmpty()) {
+            log.error("Moving {} email(s) to dead letters: ", exhausted.size(), e);
+            emailRepo.moveToDeadLetters(exhausted, workerId, e.getMessage());
+            emailMetrics.recordDeadLettered(exhausted.size());
+        }
+        retryByAttempts.forEach((attempts, ids) -> {
+            Instant nextAttemptAt = Instant.now().plusMillis(backoffMillis(attempts));
+            log.warn("Failed to send {} email(s) (attempt {}), retrying at {}: {}", ids.size(), attempts, nextAttemptAt, e.getMessage());
+            emailRepo.markRetry(ids, workerId, nextAttemptAt, e.getMessage());
+            emailMetrics.recordRetried(ids.size());
+        });
+    }
+
+    // Exponential backoff with "equal jitter": half the delay is fixed, half random
+    private long backoffMillis(int attempts) {
+        long maxDelay = Duration.ofSeconds(retryMaxDelaySeconds).toMillis();
+        long delay = retryBaseDelayMs << Math.min(attempts - 1, 20);
+        delay = Math.min(Math.max(delay, retryBaseDelayMs), maxDelay);
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private List<ObjectId> ids(List<EmailQueue> batch) {
+        return batch.stream().map(EmailQueue::getObjectId).toList();
+    }
+
+    private EmailMessage toMessage(EmailQueue email) {
+        return new EmailMessage(email.getId(), email.getEmail(), email.getSubject(), email.getBody());
+    }
+}
@@ -0,0 +1,112 @@
+package com.docusign.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.exception.EmailDeliveryException;
+import com.docusign.repository.EmailDeadLetterRepo;
+import com.docusign.repository.EmailRepo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Email delivery metrics, exposed through Actuator:
+ * <ul>
+ *   <li>{@code email.send.latency} - provider call latency per batch, tagged by
+ *       HTTP status class ({@code 2xx}, {@code 4xx}, {@code 5xx}, or {@code io}
+ *       when no response was received)</li>
+ *   <li>{@code email.messages} - messages by outcome ({@code sent},
+ *       {@code retried}, {@code dead_lettered})</li>
+ *   <li>{@code email.queued} - messages added to the outbox, by email type</li>
+ *   <li>{@code email.outbox.depth} - outbox rows by status plus the dead-letter
+ *       count, refreshed every {@code email.metrics.depth-refresh-ms}</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class EmailMetrics {
+
+    private final MeterRegistry registry;
+    private final EmailRepo emailRepo;
+    private final EmailDeadLetterRepo deadLetterRepo;
+
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> queuedCounters = new ConcurrentHashMap<>();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    private final AtomicLong queuedDepth = new AtomicLong();
+    private final AtomicLong sendingDepth = new AtomicLong();
+    private final AtomicLong deadLetterDepth = new AtomicLong();
+
+    public EmailMetrics(MeterRegistry registry, EmailRepo emailRepo, EmailDeadLetterRepo deadLetterRepo) {
+        this.registry = registry;
+        this.emailRepo = emailRepo;
+        this.deadLetterRepo = deadLetterRepo;
+
+        this.sent = registry.counter("email.messages", "outcome", "sent");
+        this.retried = registry.counter("email.messages", "outcome", "retried");
+        this.deadLettered = registry.counter("email.messages", "outcome", "dead_lettered");
+
+        registry.gauge("email.outbox.depth", Tags.of("status", AppConstants.EMAIL_STATUS_QUEUED), queuedDepth);
+        registry.gauge("email.outbox.depth", Tags.of("status", AppConstants.EMAIL_STATUS_SENDING), sendingDepth);
+        registry.gauge("email.outbox.depth", Tags.of("status", "dead_letter"), deadLetterDepth);
+    }
+
+    public void recordSend(long elapsedNanos, Exception failure) {
+        sendTimers.computeIfAbsent(statusClass(failure), status -> Timer.builder("email.send.latency")
+                .tag("status", status)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSent(int count) {
+        sent.increment(count);
+    }
+
+    public void recordRetried(int count) {
+        retried.increment(count);
+    }
+
+    public void recordDeadLettered(int count) {
+        deadLettered.increment(count);
+    }
+
+    public void recordQueued(String type, int count) {
+        String tag = type != null ? type : "unknown";
+        queuedCounters.computeIfAbsent(tag, t -> registry.counter("email.queued", "type", t))
+                .increment(count);
+    }
+
+    // Counts go through the status indexes, so this stays cheap with a deep queue
+    @Scheduled(fixedDelayString = "${email.metrics.depth-refresh-ms:15000}")
+    public void refreshOutboxDepth() {
+        try {
+            queuedDepth.set(emailRepo.countByStatus(AppConstants.EMAIL_STATUS_QUEUED));
+            sendingDepth.set(emailRepo.countByStatus(AppConstants.EMAIL_STATUS_SENDING));
+            deadLetterDepth.set(deadLetterRepo.count());
+        } catch (Exception e) {
+            log.warn("Failed to refresh email outbox depth: {}", e.getMessage());
+        }
+    }
+
+    private static String statusClass(Exception failure) {
+        if (failure == null) {
+            return "2xx";
+        }
+        int statusCode = failure instanceof EmailDeliveryException delivery ? delivery.getStatusCode() : 0;
+        return statusCode > 0 ? (statusCode / 100) + "xx" : "io";
+    }
+}
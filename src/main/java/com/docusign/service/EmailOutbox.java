@@ -0,0 +1,56 @@
+package com.docusign.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.EmailQueue;
+import com.docusign.repository.EmailRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write side of the email outbox: queues rows for {@link EmailDispatcher} with
+ * a single insert (or one insertMany for a list) and wakes the workers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutbox {
+
+    private final EmailRepo emailRepo;
+    private final EmailDispatcher emailDispatcher;
+    private final EmailMetrics emailMetrics;
+
+    public void enqueue(EmailQueue email) {
+        prepare(email, Instant.now());
+        emailRepo.insert(email);
+        emailMetrics.recordQueued(email.getType(), 1);
+        emailDispatcher.signal();
+        log.info("Email {} to {} queued for delivery", email.getId(), email.getEmail());
+    }
+
+    public void enqueueAll(List<EmailQueue> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        emails.forEach(email -> prepare(email, now));
+        emailRepo.insert(emails);
+        emails.stream()
+                .collect(Collectors.groupingBy(email -> Objects.toString(email.getType(), "unknown"), Collectors.counting()))
+                .forEach((type, count) -> emailMetrics.recordQueued(type, count.intValue()));
+        emailDispatcher.signal();
+        log.info("{} emails queued for delivery", emails.size());
+    }
+
+    private void prepare(EmailQueue email, Instant now) {
+        email.setStatus(AppConstants.EMAIL_STATUS_QUEUED);
+        email.setNextAttemptAt(now);
+    }
+}
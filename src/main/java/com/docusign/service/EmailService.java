@@ -1,7 +1,12 @@
 package com.docusign.service;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
+import com.docusign.dto.CompletionEmail;
+import com.docusign.dto.FinalDocumentNotice;
+import com.docusign.entity.EmailDeadLetter;
 import com.docusign.entity.User;
 
 @Service
@@ -15,6 +20,15 @@ public interface EmailService {
     
     public void sendDocumentCompletionEmail(String email, String userName, String documentTitle, String completionLink);
 
+    public void sendDocumentCompletionEmails(List<CompletionEmail> emails);
+
     public void sendFinalDocumentEmail(String email, String userName, String documentTitle, String finalLink);
+
+    public void sendFinalDocumentDigest(String email, String userName, List<FinalDocumentNotice> documents);
+
+    public List<EmailDeadLetter> findDeadLetters();
+
+    /** Queues a dead-lettered mail again as it was; only for types whose body was kept. */
+    public void resendDeadLetter(EmailDeadLetter deadLetter);
     
 }
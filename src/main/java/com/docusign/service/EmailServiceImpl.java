@@ -1,23 +1,21 @@
 package com.docusign.service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.docusign.constants.AppConstants;
 import com.docusign.constants.EmailTemplates;
+import com.docusign.dto.CompletionEmail;
+import com.docusign.dto.FinalDocumentNotice;
+import com.docusign.entity.EmailDeadLetter;
 import com.docusign.entity.EmailQueue;
 import com.docusign.entity.User;
+import com.docusign.repository.EmailDeadLetterRepo;
 import com.docusign.repository.EmailRepo;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,18 +26,15 @@ import lombok.extern.slf4j.Slf4j;
 public class EmailServiceImpl implements EmailService {
 
     private final EmailRepo emailRepo;
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final EmailDeadLetterRepo deadLetterRepo;
+    private final EmailOutbox emailOutbox;
+    private final OtpStore otpStore;
+    private final EmailTemplateEngine templateEngine;
 
     private static final String DOCUMENT = "Document";
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
-    @Value("${resend.api.key}")
-    private String resendApiKey;
-
-    @Value("${resend.from.email}")
-    private String fromEmail;
-
 
 
     @Override
@@ -52,85 +47,44 @@ public class EmailServiceImpl implements EmailService {
         otp.setOtp(otpCode);
         otp.setExpiresAt(LocalDateTime.now().plusMinutes(5));
         otp.setUsed(false);
+        otp.setType(AppConstants.EMAIL_TYPE_OTP);
         otp.setSubject(EmailTemplates.OTP_SUBJECT);
+        otp.setBody(templateEngine.render(EmailTemplateEngine.Template.OTP_BODY, otpCode));
 
-        emailRepo.save(otp);
-        otp.setId(otp.getObjectId());
-        emailRepo.save(otp);
-
-        sendTemplatedEmail(
-                email,
-                EmailTemplates.OTP_SUBJECT,
-                String.format(EmailTemplates.OTP_BODY_TEMPLATE, otpCode)
-        );
+        otpStore.save(otp);
 
         return otpCode;
     }
 
 
-    private void sendTemplatedEmail(String to, String subject, String body) {
-
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-
-            Map<String, Object> payload = Map.of(
-              "from", fromEmail,
-              "to", List.of(to),
-              "subject", subject,
-              "text", body
-            );
-
-            String jsonPayload = mapper.writeValueAsString(payload);
-
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.resend.com/emails"))
-                .header("Authorization", "Bearer " + resendApiKey)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(jsonPayload))
-                .build();
+    private void sendTemplatedEmail(String to, String type, String subject, String body) {
+        emailOutbox.enqueue(buildEmail(to, type, subject, body));
+    }
 
-            var response = httpClient.send(request, java.net.http.HttpResponse.BodyHandlers.ofString());
+    private EmailQueue buildEmail(String to, String type, String subject, String body) {
 
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                log.info("Email sent successfully to {} via Resend. Status: {}", to, response.statusCode());
-            } else {
-                log.error("Failed to send email to {}. Status: {}, Response: {}", to, response.statusCode(), response.body());
-                throw new InternalError("Resend API returned error: " + response.statusCode());
-            }
+        EmailQueue email = new EmailQueue();
+        email.setEmail(to);
+        email.setType(type);
+        email.setSubject(subject);
+        email.setBody(body);
 
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: ", to, e);
-            throw new InternalError("Failed to send email to " + to, e);
-        }
+        return email;
     }
 
     @Override
     public boolean verifyOtp(String email, String otpCode) {
-
-        Optional<EmailQueue> otpOptional =
-            emailRepo.findTopByEmailAndUsedFalseOrderByCreatedAtDesc(email);
-
-        if (otpOptional.isEmpty()) return false;
-
-        EmailQueue otp = otpOptional.get();
-
-        if (otp.getExpiresAt().isBefore(LocalDateTime.now())) return false;
-        if (!otp.getOtp().equals(otpCode)) return false;
-
-        otp.setUsed(true);
-        emailRepo.save(otp);
-
-        return true;
+        return otpStore.verify(email, otpCode);
     }
 
+    // Expired OTPs are removed by the TTL index on EmailQueue.expiresAt; used
+    // ones are removed here in a single indexed deleteMany.
     @Scheduled(fixedRate = 30 * 1000)
-    public void deleteExpiredOtps() {
-        emailRepo.findAll().forEach(otp -> {
-            if (otp.getExpiresAt().isBefore(LocalDateTime.now()) || otp.isUsed()) {
-                emailRepo.delete(otp);
-            }
-        });
-        log.info("Expired OTPs cleaned up at " + LocalDateTime.now());
+    public void deleteUsedOtps() {
+        long deleted = emailRepo.deleteByUsedTrue();
+        if (deleted > 0) {
+            log.info("Deleted {} used OTPs", deleted);
+        }
     }
 
 
@@ -140,36 +94,42 @@ public class EmailServiceImpl implements EmailService {
 
         EmailQueue emailQueue = new EmailQueue();
         emailQueue.setEmail(user.getEmail());
-        emailQueue.setOtp(password);
+        emailQueue.setType(AppConstants.EMAIL_TYPE_USER_CREATION);
         emailQueue.setSubject(EmailTemplates.USER_CREATION_SUBJECT);
-        emailRepo.save(emailQueue);
-        emailQueue.setId(emailQueue.getObjectId());
-        emailRepo.save(emailQueue);
-
-        sendTemplatedEmail(
-            user.getEmail(),
-            EmailTemplates.USER_CREATION_SUBJECT,
-            String.format(
-                EmailTemplates.USER_CREATION_BODY_TEMPLATE,
+        emailQueue.setBody(templateEngine.render(
+                EmailTemplateEngine.Template.USER_CREATION_BODY,
                 user.getFirstName() + " " + user.getLastName(),
                 user.getUserName(),
                 password
-            )
-        );
+        ));
+
+        emailOutbox.enqueue(emailQueue);
     }
 
     @Override
     public void sendDocumentCompletionEmail(
             String email, String userName, String documentTitle, String completionLink) {
 
-        sendTemplatedEmail(
-            email,
+        emailOutbox.enqueue(buildDocumentCompletionEmail(
+            new CompletionEmail(email, userName, documentTitle, completionLink)));
+    }
+
+    @Override
+    public void sendDocumentCompletionEmails(List<CompletionEmail> emails) {
+        emailOutbox.enqueueAll(emails.stream().map(this::buildDocumentCompletionEmail).toList());
+    }
+
+    private EmailQueue buildDocumentCompletionEmail(CompletionEmail completionEmail) {
+
+        return buildEmail(
+            completionEmail.email(),
+            AppConstants.EMAIL_TYPE_DOCUMENT_COMPLETION,
             EmailTemplates.DOCUMENT_COMPLETION_SUBJECT,
-            String.format(
-                EmailTemplates.DOCUMENT_COMPLETION_BODY_TEMPLATE,
-                userName != null ? userName : "User",
-                documentTitle != null ? documentTitle : DOCUMENT,
-                completionLink
+            templateEngine.render(
+                EmailTemplateEngine.Template.DOCUMENT_COMPLETION_BODY,
+                completionEmail.userName() != null ? completionEmail.userName() : "User",
+                completionEmail.documentTitle() != null ? completionEmail.documentTitle() : DOCUMENT,
+                completionEmail.completionLink()
             )
         );
     }
@@ -180,9 +140,10 @@ public class EmailServiceImpl implements EmailService {
 
         sendTemplatedEmail(
             email,
-            String.format(EmailTemplates.FINAL_DOCUMENT_SUBJECT, documentTitle != null ? documentTitle : DOCUMENT),
-            String.format(
-                EmailTemplates.FINAL_DOCUMENT_BODY_TEMPLATE,
+            AppConstants.EMAIL_TYPE_FINAL_DOCUMENT,
+            templateEngine.render(EmailTemplateEngine.Template.FINAL_DOCUMENT_SUBJECT, documentTitle != null ? documentTitle : DOCUMENT),
+            templateEngine.render(
+                EmailTemplateEngine.Template.FINAL_DOCUMENT_BODY,
                 userName != null ? userName : "User",
                 documentTitle != null ? documentTitle : DOCUMENT,
                 finalLink
@@ -190,4 +151,50 @@ public class EmailServiceImpl implements EmailService {
         );
     }
 
+    @Override
+    public void sendFinalDocumentDigest(String email, String userName, List<FinalDocumentNotice> documents) {
+
+        if (documents.size() == 1) {
+            FinalDocumentNotice document = documents.get(0);
+            sendFinalDocumentEmail(email, userName, document.documentTitle(), document.finalLink());
+            return;
+        }
+
+        StringBuilder items = new StringBuilder();
+        for (FinalDocumentNotice document : documents) {
+            items.append(templateEngine.render(
+                EmailTemplateEngine.Template.FINAL_DOCUMENT_DIGEST_ITEM,
+                document.documentTitle() != null ? document.documentTitle() : DOCUMENT,
+                document.finalLink()
+            ));
+        }
+
+        sendTemplatedEmail(
+            email,
+            AppConstants.EMAIL_TYPE_FINAL_DOCUMENT,
+            templateEngine.render(EmailTemplateEngine.Template.FINAL_DOCUMENT_DIGEST_SUBJECT, documents.size()),
+            templateEngine.render(
+                EmailTemplateEngine.Template.FINAL_DOCUMENT_DIGEST_BODY,
+                userName != null ? userName : "User",
+                items
+            )
+        );
+    }
+
+    @Override
+    public List<EmailDeadLetter> findDeadLetters() {
+        return deadLetterRepo.findAllByOrderByFailedAtDesc();
+    }
+
+    @Override
+    public void resendDeadLetter(EmailDeadLetter deadLetter) {
+        EmailQueue email = new EmailQueue();
+        email.setEmail(deadLetter.getEmail());
+        email.setType(deadLetter.getType());
+        email.setSubject(deadLetter.getSubject());
+        email.setBody(deadLetter.getBody());
+
+        emailOutbox.enqueue(email);
+    }
+
 }
@@ -0,0 +1,61 @@
+package com.docusign.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.EmailTemplates;
+
+/**
+ * Renders the templates in {@link EmailTemplates}. Every template is compiled
+ * once when the engine is created and rendered into a per-thread buffer that
+ * is reused across calls.
+ */
+@Component
+public class EmailTemplateEngine {
+
+    public enum Template {
+        OTP_BODY(EmailTemplates.OTP_BODY_TEMPLATE),
+        USER_CREATION_BODY(EmailTemplates.USER_CREATION_BODY_TEMPLATE),
+        DOCUMENT_COMPLETION_BODY(EmailTemplates.DOCUMENT_COMPLETION_BODY_TEMPLATE),
+        FINAL_DOCUMENT_SUBJECT(EmailTemplates.FINAL_DOCUMENT_SUBJECT),
+        FINAL_DOCUMENT_BODY(EmailTemplates.FINAL_DOCUMENT_BODY_TEMPLATE),
+        FINAL_DOCUMENT_DIGEST_SUBJECT(EmailTemplates.FINAL_DOCUMENT_DIGEST_SUBJECT),
+        FINAL_DOCUMENT_DIGEST_BODY(EmailTemplates.FINAL_DOCUMENT_DIGEST_BODY_TEMPLATE),
+        FINAL_DOCUMENT_DIGEST_ITEM(EmailTemplates.FINAL_DOCUMENT_DIGEST_ITEM_TEMPLATE);
+
+        private final String source;
+
+        Template(String source) {
+            this.source = source;
+        }
+    }
+
+    // Buffers that grew past this are dropped instead of pinning memory per thread
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+    private final Map<Template, CompiledTemplate> compiled = new EnumMap<>(Template.class);
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    public EmailTemplateEngine() {
+        for (Template template : Template.values()) {
+            compiled.put(template, CompiledTemplate.compile(template.source));
+        }
+    }
+
+    public String render(Template template, Object... args) {
+        CompiledTemplate compiledTemplate = compiled.get(template);
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(compiledTemplate.estimatedLength() + 128);
+        try {
+            compiledTemplate.renderTo(buffer, args);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                buffers.remove();
+            }
+        }
+    }
+}
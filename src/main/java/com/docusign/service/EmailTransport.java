@@ -0,0 +1,17 @@
+package com.docusign.service;
+
+import java.util.List;
+
+import com.docusign.dto.EmailMessage;
+
+/**
+ * Delivers a batch of outbox messages to the email provider. A batch either
+ * succeeds as a whole or the call throws, in which case every message in it is
+ * retried by the dispatcher.
+ */
+public interface EmailTransport {
+
+    void send(List<EmailMessage> batch);
+
+    int maxBatchSize();
+}
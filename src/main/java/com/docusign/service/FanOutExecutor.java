@@ -0,0 +1,75 @@
+package com.docusign.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs side work that may be lost (progress broadcasts, document copies the
+ * capture queue retries) off the request thread on a bounded pool, so a
+ * request that triggers it returns as soon as its own writes are done. Work
+ * that must not be lost, such as email enqueues, stays on the caller's
+ * thread. At most {@code fanout.concurrency}
+ * tasks run at once; when the queue is full the caller runs the task itself,
+ * which slows the producer instead of dropping work.
+ */
+@Component
+@Slf4j
+public class FanOutExecutor {
+
+    @Value("${fanout.concurrency:8}")
+    private int concurrency;
+
+    @Value("${fanout.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fan-out-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Fan-out executor did not drain in time, {} tasks dropped", executor.shutdownNow().size());
+        }
+    }
+
+    public void execute(Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Fan-out task failed: ", e);
+            }
+        };
+
+        try {
+            executor.execute(guarded);
+        } catch (RejectedExecutionException e) {
+            log.warn("Fan-out queue full, running task on the calling thread");
+            guarded.run();
+        }
+    }
+}
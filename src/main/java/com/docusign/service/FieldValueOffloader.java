@@ -0,0 +1,136 @@
+package com.docusign.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docusign.dto.SpilledFieldValue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves large base64 data-URL field values (signatures, images) out of the
+ * completion document and into S3 under {@code field-values/<sha256>}. The
+ * stored field value becomes a small reference map; identical content maps to
+ * the same key and is uploaded only once. On read, references are replaced
+ * with presigned GET URLs, which the frontend can use wherever it used the
+ * data URL.
+ *
+ * <p>Values the {@link SubmissionReader} already spilled to temp files are
+ * uploaded from the file with the hash computed while reading.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FieldValueOffloader {
+
+    static final String STORAGE_KEY = "storageKey";
+    static final String CONTENT_TYPE = "contentType";
+    static final String SIZE = "size";
+
+    private static final String KEY_PREFIX = "field-values/";
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private final S3Service s3Service;
+
+    @Value("${field-values.offload.enabled:true}")
+    private boolean enabled;
+
+    @Value("${field-values.offload.min-length:16384}")
+    private int minLength;
+
+    /**
+     * Returns {@code fieldValues} with every large base64 data URL uploaded and
+     * replaced by a reference. Other values are passed through unchanged.
+     */
+    public Map<String, Object> offload(Map<String, Object> fieldValues) {
+        if (fieldValues == null) {
+            return null;
+        }
+        Map<String, Object> stored = new HashMap<>(fieldValues);
+        for (Map.Entry<String, Object> entry : stored.entrySet()) {
+            if (entry.getValue() instanceof SpilledFieldValue spilled) {
+                entry.setValue(upload(spilled));
+            } else if (enabled && entry.getValue() instanceof String value && isLargeDataUrl(value)) {
+                entry.setValue(upload(value));
+            }
+        }
+        return stored;
+    }
+
+    /** Replaces references with presigned GET URLs for returning to clients. */
+    public Map<String, Object> resolve(Map<String, Object> fieldValues) {
+        if (fieldValues == null || fieldValues.values().stream().noneMatch(FieldValueOffloader::isReference)) {
+            return fieldValues;
+        }
+        Map<String, Object> resolved = new HashMap<>(fieldValues);
+        resolved.replaceAll((field, value) -> isReference(value)
+                ? s3Service.generatePresignedGetUrl((String) ((Map<?, ?>) value).get(STORAGE_KEY))
+                : value);
+        return resolved;
+    }
+
+    static boolean isReference(Object value) {
+        return value instanceof Map<?, ?> map && map.get(STORAGE_KEY) instanceof String;
+    }
+
+    private boolean isLargeDataUrl(String value) {
+        return value.length() >= minLength
+                && value.regionMatches(true, 0, DATA_URL_PREFIX, 0, DATA_URL_PREFIX.length())
+                && value.indexOf(BASE64_MARKER) > 0;
+    }
+
+    private Map<String, Object> upload(String dataUrl) {
+        int marker = dataUrl.indexOf(BASE64_MARKER);
+        String contentType = marker > DATA_URL_PREFIX.length()
+                ? dataUrl.substring(DATA_URL_PREFIX.length(), marker)
+                : "application/octet-stream";
+        byte[] content = Base64.getMimeDecoder().decode(
+                dataUrl.substring(marker + BASE64_MARKER.length()).getBytes(StandardCharsets.US_ASCII));
+
+        String key = KEY_PREFIX + sha256(content);
+        if (s3Service.objectExists(key)) {
+            log.debug("Field value {} already stored", key);
+        } else {
+            s3Service.putObject(key, content, contentType);
+            log.info("Stored {} byte field value as {}", content.length, key);
+        }
+        return reference(key, contentType, content.length);
+    }
+
+    private Map<String, Object> upload(SpilledFieldValue spilled) {
+        String key = KEY_PREFIX + spilled.sha256();
+        if (s3Service.objectExists(key)) {
+            log.debug("Field value {} already stored", key);
+        } else {
+            s3Service.putObject(key, spilled.file(), spilled.contentType());
+            log.info("Stored {} byte field value as {}", spilled.size(), key);
+        }
+        return reference(key, spilled.contentType(), spilled.size());
+    }
+
+    private static Map<String, Object> reference(String key, String contentType, long size) {
+        Map<String, Object> reference = new HashMap<>();
+        reference.put(STORAGE_KEY, key);
+        reference.put(CONTENT_TYPE, contentType);
+        reference.put(SIZE, size);
+        return reference;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.docusign.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.FinalDocumentNotice;
+import com.docusign.entity.FinalDocumentNotification;
+import com.docusign.repository.FinalDocumentNotificationRepo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces final-document notifications per recipient. Each notice is
+ * written to {@code final_document_notifications}; the first pending notice
+ * for an address opens a window of {@code email.digest.window-ms}, and a
+ * sweep sends everything that address collected as one digest email once the
+ * window has closed, or sooner once {@code email.digest.max-documents} are
+ * waiting. A recipient therefore waits at most one window plus the flush
+ * interval and gets one email per window instead of one per document.
+ *
+ * <p>Notices survive a restart and any node's sweep can send them. A sweep
+ * claims an address's notices before queueing the digest and deletes them
+ * after; notices whose sweep died are released after
+ * {@code email.digest.lease-seconds} and sent again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FinalDocumentNotifier {
+
+    private static final int DUE_BATCH = 100;
+
+    private final EmailService emailService;
+    private final FinalDocumentNotificationRepo notificationRepo;
+
+    @Value("${email.digest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${email.digest.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${email.digest.max-documents:50}")
+    private int maxDocuments;
+
+    @Value("${email.digest.lease-seconds:300}")
+    private long leaseSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private LeaseRecovery recovery;
+
+    @PostConstruct
+    void init() {
+        recovery = new LeaseRecovery("final document notices", Duration.ofSeconds(leaseSeconds),
+                notificationRepo::releaseStaleClaims);
+    }
+
+    /** Records a final-document notice for each recipient with an email address. */
+    public void notify(String designerId, String documentTitle, String finalLink,
+            List<Map<String, Object>> recipients) {
+        Instant now = Instant.now();
+        List<FinalDocumentNotification> notices = new ArrayList<>(recipients.size());
+        for (Map<String, Object> recipient : recipients) {
+            String email = (String) recipient.get("email");
+            String name = (String) recipient.get("name");
+            if (email == null) {
+                continue;
+            }
+            if (!enabled) {
+                send(email, name, List.of(new FinalDocumentNotice(documentTitle, finalLink)));
+                continue;
+            }
+            notices.add(FinalDocumentNotification.builder()
+                    .id(FinalDocumentNotification.idFor(designerId, email))
+                    .email(email)
+                    .userName(name)
+                    .designerId(designerId)
+                    .documentTitle(documentTitle)
+                    .finalLink(finalLink)
+                    .createdAt(now)
+                    .status(AppConstants.FINAL_NOTICE_STATUS_PENDING)
+                    .build());
+        }
+        notificationRepo.insertAllUnordered(notices);
+    }
+
+    @Scheduled(fixedDelayString = "${email.digest.flush-interval-ms:5000}")
+    public void flushDue() {
+        if (!enabled) {
+            return;
+        }
+        recovery.maybeRecover();
+        Instant openedBefore = Instant.now().minusMillis(windowMs);
+        List<String> due;
+        boolean allSent = true;
+        do {
+            due = notificationRepo.findDueEmails(openedBefore, maxDocuments, DUE_BATCH);
+            for (String email : due) {
+                allSent &= sendDigest(email);
+            }
+            // A failed digest is pending again and would be found again straight away
+        } while (allSent && due.size() == DUE_BATCH);
+    }
+
+    private boolean sendDigest(String email) {
+        String claimId = nodeId + "-" + UUID.randomUUID();
+        List<FinalDocumentNotification> claimed =
+                notificationRepo.claimForEmail(email, claimId, Instant.now(), maxDocuments);
+        if (claimed.isEmpty()) {
+            return true;
+        }
+
+        String userName = null;
+        List<FinalDocumentNotice> documents = new ArrayList<>(claimed.size());
+        List<String> ids = new ArrayList<>(claimed.size());
+        for (FinalDocumentNotification notice : claimed) {
+            if (notice.getUserName() != null) {
+                userName = notice.getUserName();
+            }
+            documents.add(new FinalDocumentNotice(notice.getDocumentTitle(), notice.getFinalLink()));
+            ids.add(notice.getId());
+        }
+
+        if (!send(email, userName, documents)) {
+            notificationRepo.releaseClaimed(ids, claimId);
+            return false;
+        }
+        notificationRepo.deleteClaimed(ids, claimId);
+        return true;
+    }
+
+    private boolean send(String email, String userName, List<FinalDocumentNotice> documents) {
+        try {
+            emailService.sendFinalDocumentDigest(email, userName, documents);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to send final document digest to {}: ", email, e);
+            return false;
+        }
+    }
+}
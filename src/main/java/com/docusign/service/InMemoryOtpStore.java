@@ -0,0 +1,185 @@
+package com.docusign.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.EmailQueue;
+import com.docusign.repository.EmailRepo;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers {@code verifyOtp} from a bounded in-process map keyed by email, so
+ * password-reset bursts never query the {@code emails} collection. Writes are
+ * behind: new OTP rows (which are also the outbox entries delivering the
+ * codes) are inserted in batches, and consumed OTPs are flagged used in one
+ * update per flush. Active OTPs are reloaded at startup.
+ *
+ * <p>A flush that fails keeps its rows and retries them on the next one, so a
+ * code already reported as sent is still delivered and a used code is not
+ * revived by a reload.
+ *
+ * <p>The default ({@code otp.store=memory}). Only correct when the OTP is
+ * issued and verified on the same node, so deployments running more than one
+ * node must set {@code otp.store=mongo}.
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryOtpStore implements OtpStore {
+
+    private record OtpEntry(ObjectId id, String code, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+
+    private final EmailRepo emailRepo;
+    private final EmailOutbox emailOutbox;
+
+    @Value("${otp.store.max-entries:100000}")
+    private int maxEntries;
+
+    private final Map<String, OtpEntry> entries = new ConcurrentHashMap<>();
+    private final Queue<EmailQueue> pendingInserts = new ConcurrentLinkedQueue<>();
+    private final Queue<ObjectId> pendingUsed = new ConcurrentLinkedQueue<>();
+    // Rows from a failed batch insert, some of which may have been written
+    private final Queue<EmailQueue> failedInserts = new ConcurrentLinkedQueue<>();
+
+    @PostConstruct
+    void loadActiveOtps() {
+        List<EmailQueue> active = emailRepo.findByTypeAndUsedFalseAndExpiresAtAfter(
+                AppConstants.EMAIL_TYPE_OTP, LocalDateTime.now());
+        active.stream()
+                .sorted(Comparator.comparing(EmailQueue::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(otp -> entries.put(otp.getEmail(), toEntry(otp)));
+        log.info("Loaded {} active OTPs into memory", entries.size());
+    }
+
+    @Override
+    public void save(EmailQueue otp) {
+        // Assign the id up front so a verify that races the flush can still be persisted
+        otp.setId(new ObjectId());
+        if (entries.size() >= maxEntries && !entries.containsKey(otp.getEmail())) {
+            makeRoom();
+        }
+        entries.put(otp.getEmail(), toEntry(otp));
+        pendingInserts.add(otp);
+    }
+
+    @Override
+    public boolean verify(String email, String otpCode) {
+        OtpEntry entry = entries.get(email);
+        if (entry == null) return false;
+        if (entry.isExpired(System.currentTimeMillis())) return false;
+        if (!entry.code().equals(otpCode)) return false;
+
+        // Only one of two concurrent verifications may consume the OTP
+        if (!entries.remove(email, entry)) return false;
+
+        pendingUsed.add(entry.id());
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${otp.store.flush-interval-ms:100}")
+    public void flush() {
+        boolean inserted = retryFailedInserts();
+
+        List<EmailQueue> inserts = drain(pendingInserts);
+        if (!inserts.isEmpty()) {
+            try {
+                emailOutbox.enqueueAll(inserts);
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} OTPs, retrying on the next flush: {}", inserts.size(), e.getMessage());
+                failedInserts.addAll(inserts);
+                inserted = false;
+            }
+        }
+
+        // A used flag for a row that is not written yet would match nothing
+        if (!inserted) {
+            return;
+        }
+        List<ObjectId> used = drain(pendingUsed);
+        if (!used.isEmpty()) {
+            try {
+                emailRepo.markUsed(used);
+            } catch (RuntimeException e) {
+                log.warn("Failed to mark {} OTPs used, retrying on the next flush: {}", used.size(), e.getMessage());
+                pendingUsed.addAll(used);
+            }
+        }
+    }
+
+    // One at a time, so rows the failed batch did write are skipped on their duplicate key
+    private boolean retryFailedInserts() {
+        List<EmailQueue> retries = drain(failedInserts);
+        boolean allWritten = true;
+        for (EmailQueue otp : retries) {
+            try {
+                emailOutbox.enqueue(otp);
+            } catch (DuplicateKeyException e) {
+                log.debug("OTP {} was already written", otp.getId());
+            } catch (RuntimeException e) {
+                failedInserts.add(otp);
+                allWritten = false;
+            }
+        }
+        return allWritten;
+    }
+
+    @Scheduled(fixedDelayString = "${otp.store.sweep-interval-ms:30000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void makeRoom() {
+        evictExpired();
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().expiresAtMillis()))
+                .ifPresent(e -> entries.remove(e.getKey(), e.getValue()));
+        log.warn("OTP store is full ({} entries), evicted the OTP closest to expiry", maxEntries);
+    }
+
+    private OtpEntry toEntry(EmailQueue otp) {
+        long expiresAt = otp.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new OtpEntry(otp.getObjectId(), otp.getOtp(), expiresAt);
+    }
+
+    private static <T> List<T> drain(Queue<T> queue) {
+        List<T> drained = new ArrayList<>();
+        T item;
+        while ((item = queue.poll()) != null) {
+            drained.add(item);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,46 @@
+package com.docusign.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands back rows of a lease-claimed queue whose claimant stopped renewing
+ * them. Any caller may trigger recovery, but it runs at most once per lease
+ * period per instance.
+ */
+@Slf4j
+final class LeaseRecovery {
+
+    private final String description;
+    private final long leaseMillis;
+    private final ToLongFunction<Instant> releaseClaimedBefore;
+    private final AtomicLong lastRecovery = new AtomicLong();
+
+    /**
+     * @param description          what the queue holds, for the log line
+     * @param lease                how long a claim is honoured
+     * @param releaseClaimedBefore releases claims taken at or before the given
+     *                             instant and returns how many were released
+     */
+    LeaseRecovery(String description, Duration lease, ToLongFunction<Instant> releaseClaimedBefore) {
+        this.description = description;
+        this.leaseMillis = lease.toMillis();
+        this.releaseClaimedBefore = releaseClaimedBefore;
+    }
+
+    void maybeRecover() {
+        long now = System.currentTimeMillis();
+        long last = lastRecovery.get();
+        if (now - last < leaseMillis || !lastRecovery.compareAndSet(last, now)) {
+            return;
+        }
+        long released = releaseClaimedBefore.applyAsLong(Instant.ofEpochMilli(now - leaseMillis));
+        if (released > 0) {
+            log.warn("Released {} {} with expired leases", released, description);
+        }
+    }
+}
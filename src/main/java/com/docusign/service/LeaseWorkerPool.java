@@ -0,0 +1,117 @@
+package com.docusign.service;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A pool of daemon workers draining a lease-claimed queue in MongoDB. Each
+ * worker loops: recover stale leases, run one unit of work under its own
+ * worker id, and wait for a signal or the poll interval when there was
+ * nothing to do. Worker ids are unique across nodes so claims taken by one
+ * worker are never mistaken for another's.
+ */
+@Slf4j
+final class LeaseWorkerPool {
+
+    /** One unit of work; returns false when the queue had nothing to claim. */
+    @FunctionalInterface
+    interface Task {
+        boolean runOnce(String workerId) throws Exception;
+    }
+
+    private final String name;
+    private final int workers;
+    private final long pollIntervalMs;
+    private final LeaseRecovery recovery;
+    private final Task task;
+
+    private final Object signal = new Object();
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    LeaseWorkerPool(String name, int workers, long pollIntervalMs, LeaseRecovery recovery, Task task) {
+        this.name = name;
+        this.workers = workers;
+        this.pollIntervalMs = pollIntervalMs;
+        this.recovery = recovery;
+        this.task = task;
+    }
+
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            String workerId = nodeId + "-" + i;
+            executor.submit(() -> runWorker(workerId));
+        }
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        signalAll();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Wakes one idle worker. */
+    void signalOne() {
+        synchronized (signal) {
+            signal.notify();
+        }
+    }
+
+    /** Wakes every idle worker. */
+    void signalAll() {
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    private void runWorker(String workerId) {
+        while (running) {
+            try {
+                recovery.maybeRecover();
+                if (!task.runOnce(workerId)) {
+                    awaitSignal();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("{} worker {} failed: ", name, workerId, e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        synchronized (signal) {
+            signal.wait(pollIntervalMs);
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.docusign.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.EmailQueue;
+import com.docusign.repository.EmailRepo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes OTPs straight through to the {@code emails} collection, so
+ * any node can verify a code issued by another. Required for multi-node
+ * deployments ({@code otp.store=mongo}) in place of the default
+ * {@link InMemoryOtpStore}.
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "mongo")
+@RequiredArgsConstructor
+public class MongoOtpStore implements OtpStore {
+
+    private final EmailRepo emailRepo;
+    private final EmailOutbox emailOutbox;
+
+    @Override
+    public void save(EmailQueue otp) {
+        emailOutbox.enqueue(otp);
+    }
+
+    @Override
+    public boolean verify(String email, String otpCode) {
+
+        Optional<EmailQueue> otpOptional =
+            emailRepo.findTopByEmailAndTypeAndUsedFalseOrderByCreatedAtDesc(email, AppConstants.EMAIL_TYPE_OTP);
+
+        if (otpOptional.isEmpty()) return false;
+
+        EmailQueue otp = otpOptional.get();
+
+        if (otp.getExpiresAt().isBefore(LocalDateTime.now())) return false;
+        if (!otp.getOtp().equals(otpCode)) return false;
+
+        emailRepo.markUsed(List.of(otp.getObjectId()));
+
+        return true;
+    }
+}
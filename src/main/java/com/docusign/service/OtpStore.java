@@ -0,0 +1,18 @@
+package com.docusign.service;
+
+import com.docusign.entity.EmailQueue;
+
+/**
+ * Holds issued OTPs for verification. The OTP row is also the outbox entry
+ * that delivers the code, so {@link #save} is responsible for queueing it.
+ */
+public interface OtpStore {
+
+    void save(EmailQueue otp);
+
+    /**
+     * Returns true and consumes the OTP if {@code otpCode} matches the latest
+     * unexpired, unused OTP issued to {@code email}.
+     */
+    boolean verify(String email, String otpCode);
+}
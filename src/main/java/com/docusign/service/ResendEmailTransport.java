@@ -0,0 +1,98 @@
+package com.docusign.service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.docusign.dto.EmailMessage;
+import com.docusign.exception.EmailDeliveryException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends through the Resend HTTP API. Single messages go to {@code /emails},
+ * anything larger is grouped into one {@code /emails/batch} call.
+ */
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "resend", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ResendEmailTransport implements EmailTransport {
+
+    // Resend rejects batch requests with more than 100 emails
+    private static final int RESEND_MAX_BATCH = 100;
+
+    private final ResendPayloadWriter payloadWriter;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Value("${resend.api.url:https://api.resend.com}")
+    private String apiUrl;
+
+    @Value("${resend.api.key}")
+    private String resendApiKey;
+
+    @Value("${resend.from.email}")
+    private String fromEmail;
+
+    @Override
+    public void send(List<EmailMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            byte[] jsonPayload;
+            String path;
+            if (batch.size() == 1) {
+                jsonPayload = payloadWriter.write(fromEmail, batch.get(0));
+                path = "/emails";
+            } else {
+                jsonPayload = payloadWriter.writeBatch(fromEmail, batch);
+                path = "/emails/batch";
+            }
+
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(apiUrl + path))
+                .header("Authorization", "Bearer " + resendApiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonPayload))
+                .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                log.info("Sent {} email(s) via Resend. Status: {}", batch.size(), response.statusCode());
+            } else {
+                log.error("Failed to send {} email(s). Status: {}, Response: {}", batch.size(), response.statusCode(), response.body());
+                throw new EmailDeliveryException(
+                        "Resend API returned error: " + response.statusCode(),
+                        response.statusCode(),
+                        isRetryable(response.statusCode()));
+            }
+        } catch (EmailDeliveryException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailDeliveryException("Interrupted while sending emails", e);
+        } catch (Exception e) {
+            throw new EmailDeliveryException("Failed to send " + batch.size() + " email(s)", e);
+        }
+    }
+
+    // Client errors other than timeouts and rate limiting mean the payload itself was rejected
+    private boolean isRetryable(int statusCode) {
+        return statusCode >= 500 || statusCode == 408 || statusCode == 429;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return RESEND_MAX_BATCH;
+    }
+}
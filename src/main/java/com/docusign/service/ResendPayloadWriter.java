@@ -0,0 +1,41 @@
+package com.docusign.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.docusign.dto.EmailMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Serializes Resend request bodies with writers resolved once at startup and
+ * shared across dispatcher threads ({@link ObjectWriter} is immutable).
+ */
+@Component
+public class ResendPayloadWriter {
+
+    record ResendEmail(String from, List<String> to, String subject, String text) {}
+
+    private final ObjectWriter singleWriter;
+    private final ObjectWriter batchWriter;
+
+    public ResendPayloadWriter(ObjectMapper objectMapper) {
+        this.singleWriter = objectMapper.writerFor(ResendEmail.class);
+        this.batchWriter = objectMapper.writerFor(new TypeReference<List<ResendEmail>>() {});
+    }
+
+    public byte[] write(String from, EmailMessage message) throws JsonProcessingException {
+        return singleWriter.writeValueAsBytes(toResendEmail(from, message));
+    }
+
+    public byte[] writeBatch(String from, List<EmailMessage> messages) throws JsonProcessingException {
+        return batchWriter.writeValueAsBytes(messages.stream().map(m -> toResendEmail(from, m)).toList());
+    }
+
+    private ResendEmail toResendEmail(String from, EmailMessage message) {
+        return new ResendEmail(from, List.of(message.to()), message.subject(), message.text());
+    }
+}
@@ -0,0 +1,143 @@
+package com.docusign.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * Server-side S3 copy on the async client. Objects up to the multipart
+ * threshold are copied with a single CopyObject; larger ones (CopyObject fails
+ * above 5 GB) are copied as a multipart upload of UploadPartCopy ranges, with
+ * at most {@code parallelism} parts in flight. A failed multipart copy is
+ * aborted so no orphaned parts are billed.
+ */
+@Slf4j
+public class S3MultipartCopier {
+
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long multipartThreshold;
+    private final long partSize;
+    private final int parallelism;
+
+    public S3MultipartCopier(S3AsyncClient s3AsyncClient, long multipartThreshold, long partSize, int parallelism) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.multipartThreshold = Math.max(multipartThreshold, this.partSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public CompletableFuture<Void> copy(String bucket, String sourceKey, String destinationKey) {
+        return s3AsyncClient.headObject(b -> b.bucket(bucket).key(sourceKey))
+                .thenCompose(head -> copy(bucket, sourceKey, destinationKey, head.contentLength(), head.eTag()));
+    }
+
+    /**
+     * Copies a source whose size and ETag are already known. Every request is
+     * conditional on the ETag, so a source overwritten mid-copy fails the copy
+     * instead of producing a destination with mixed content.
+     */
+    public CompletableFuture<Void> copy(String bucket, String sourceKey, String destinationKey,
+            long size, String eTag) {
+        if (size <= multipartThreshold) {
+            return s3AsyncClient.copyObject(b -> b
+                            .sourceBucket(bucket)
+                            .sourceKey(sourceKey)
+                            .destinationBucket(bucket)
+                            .destinationKey(destinationKey)
+                            .copySourceIfMatch(eTag))
+                    .thenApply(response -> null);
+        }
+        return copyMultipart(bucket, sourceKey, destinationKey, size, eTag);
+    }
+
+    private CompletableFuture<Void> copyMultipart(String bucket, String sourceKey, String destinationKey,
+            long size, String eTag) {
+        // S3 allows at most 10,000 parts, so very large objects get larger parts
+        long effectivePartSize = Math.max(partSize, (size + MAX_PARTS - 1) / MAX_PARTS);
+        int partCount = (int) ((size + effectivePartSize - 1) / effectivePartSize);
+        log.info("Copying {} ({} bytes) to {} in {} parts", sourceKey, size, destinationKey, partCount);
+
+        return s3AsyncClient.createMultipartUpload(b -> b.bucket(bucket).key(destinationKey))
+                .thenCompose(upload -> {
+                    String uploadId = upload.uploadId();
+                    return copyParts(bucket, sourceKey, destinationKey, uploadId, size, eTag,
+                            effectivePartSize, partCount)
+                            .thenCompose(parts -> s3AsyncClient.completeMultipartUpload(b -> b
+                                    .bucket(bucket)
+                                    .key(destinationKey)
+                                    .uploadId(uploadId)
+                                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())))
+                            .handle((response, error) -> {
+                                if (error != null) {
+                                    abort(bucket, destinationKey, uploadId);
+                                    throw new IllegalStateException(
+                                            "Multipart copy of " + sourceKey + " failed", error);
+                                }
+                                return (Void) null;
+                            });
+                });
+    }
+
+    // Runs `parallelism` lanes, each copying the next unclaimed part until none are left
+    private CompletableFuture<List<CompletedPart>> copyParts(String bucket, String sourceKey, String destinationKey,
+            String uploadId, long size, String eTag, long effectivePartSize, int partCount) {
+
+        CompletedPart[] parts = new CompletedPart[partCount];
+        AtomicInteger nextPart = new AtomicInteger();
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(parallelism, partCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = copyNextPart(bucket, sourceKey, destinationKey, uploadId, size, eTag, effectivePartSize,
+                    nextPart, parts);
+        }
+        return CompletableFuture.allOf(lanes).thenApply(done -> Arrays.asList(parts));
+    }
+
+    private CompletableFuture<Void> copyNextPart(String bucket, String sourceKey, String destinationKey,
+            String uploadId, long size, String eTag, long effectivePartSize, AtomicInteger nextPart,
+            CompletedPart[] parts) {
+
+        int index = nextPart.getAndIncrement();
+        if (index >= parts.length) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = index * effectivePartSize;
+        long end = Math.min(start + effectivePartSize, size) - 1;
+        int partNumber = index + 1;
+
+        return s3AsyncClient.uploadPartCopy(b -> b
+                        .sourceBucket(bucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(bucket)
+                        .destinationKey(destinationKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .copySourceIfMatch(eTag)
+                        .copySourceRange("bytes=" + start + "-" + end))
+                .thenCompose(response -> {
+                    parts[index] = CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.copyPartResult().eTag())
+                            .build();
+                    return copyNextPart(bucket, sourceKey, destinationKey, uploadId, size, eTag,
+                            effectivePartSize, nextPart, parts);
+                });
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        s3AsyncClient.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, error.getMessage());
+                    }
+                });
+    }
+}
@@ -1,6 +1,12 @@
 package com.docusign.service;
 
+import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -9,15 +15,16 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -26,6 +33,9 @@ public class S3Service {
 
     private final S3Presigner presigner;
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3MultipartCopier copier;
+    private final Map<String, CompletableFuture<Void>> capturesInFlight = new ConcurrentHashMap<>();
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -36,21 +46,53 @@ public class S3Service {
     public S3Service(
             @Value("${aws.region}") String region,
             @Value("${aws.accessKey}") String accessKey,
-            @Value("${aws.secretKey}") String secretKey) {
+            @Value("${aws.secretKey}") String secretKey,
+            @Value("${aws.s3.endpoint:}") String endpoint,
+            @Value("${aws.s3.copy.multipart-threshold-mb:100}") long multipartThresholdMb,
+            @Value("${aws.s3.copy.part-size-mb:64}") long partSizeMb,
+            @Value("${aws.s3.copy.parallelism:8}") int copyParallelism) {
         
         // Use StaticCredentialsProvider with credentials from application.properties
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
         StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(awsCredentials);
+        // Set for S3-compatible stores (LocalStack, MinIO); those need path-style addressing
+        URI endpointOverride = endpoint.isBlank() ? null : URI.create(endpoint);
         
         this.presigner = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(credentialsProvider)
+                .endpointOverride(endpointOverride)
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(endpointOverride != null)
+                        .build())
                 .build();
         
         this.s3Client = S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(credentialsProvider)
+                .endpointOverride(endpointOverride)
+                .forcePathStyle(endpointOverride != null)
                 .build();
+
+        this.s3AsyncClient = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider)
+                .endpointOverride(endpointOverride)
+                .forcePathStyle(endpointOverride != null)
+                .build();
+
+        this.copier = new S3MultipartCopier(
+                s3AsyncClient,
+                multipartThresholdMb * 1024 * 1024,
+                partSizeMb * 1024 * 1024,
+                copyParallelism);
+    }
+
+    @PreDestroy
+    void close() {
+        presigner.close();
+        s3Client.close();
+        s3AsyncClient.close();
     }
 
     public String generatePresignedPutUrl(String key) {
@@ -89,21 +131,78 @@ public class S3Service {
     }
 
 
-    public void copyObject(String sourceKey, String destinationKey) {
+    public boolean objectExists(String key) {
         try {
-            // Copy object from source to destination within the same bucket
-            CopyObjectRequest copyRequest = CopyObjectRequest.builder()
-                    .sourceBucket(bucket)
-                    .sourceKey(sourceKey)
-                    .destinationBucket(bucket)
-                    .destinationKey(destinationKey)
-                    .build();
-            
-            s3Client.copyObject(copyRequest);
-            log.info("Successfully copied S3 object from {} to {}", sourceKey, destinationKey);
-        } catch (Exception e) {
-            log.error("Failed to copy S3 object from {} to {}: ", sourceKey, destinationKey, e);
+            s3Client.headObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
             throw e;
         }
     }
+
+    public void putObject(String key, byte[] content, String contentType) {
+        s3Client.putObject(b -> b.bucket(bucket).key(key).contentType(contentType),
+                RequestBody.fromBytes(content));
+    }
+
+    public void putObject(String key, Path file, String contentType) {
+        s3Client.putObject(b -> b.bucket(bucket).key(key).contentType(contentType),
+                RequestBody.fromFile(file));
+    }
+
+    /**
+     * Copies {@code sourceKey} to a key under {@code prefix} derived from the
+     * source's ETag and returns that key. Identical content always maps to the
+     * same key, so the copy is skipped when the key already exists, and
+     * concurrent captures of the same content share one copy.
+     */
+    public CompletableFuture<String> captureObject(String sourceKey, String prefix) {
+        CompletableFuture<String> capture = s3AsyncClient.headObject(b -> b.bucket(bucket).key(sourceKey))
+                .thenCompose(head -> {
+                    String captureKey = contentKey(prefix, sourceKey, head.eTag());
+                    CompletableFuture<Void> copy = capturesInFlight.computeIfAbsent(captureKey, key ->
+                            exists(key).thenCompose(exists -> {
+                                if (exists) {
+                                    log.debug("Capture {} already stored, skipping copy of {}", key, sourceKey);
+                                    return CompletableFuture.<Void>completedFuture(null);
+                                }
+                                return copier.copy(bucket, sourceKey, key, head.contentLength(), head.eTag());
+                            }));
+                    copy.whenComplete((result, error) -> capturesInFlight.remove(captureKey, copy));
+                    return copy.thenApply(done -> captureKey);
+                });
+        return capture.whenComplete((captureKey, error) -> {
+            if (error == null) {
+                log.info("Captured S3 object {} as {}", sourceKey, captureKey);
+            } else {
+                log.error("Failed to capture S3 object {}: ", sourceKey, error);
+            }
+        });
+    }
+
+    private CompletableFuture<Boolean> exists(String key) {
+        return s3AsyncClient.headObject(b -> b.bucket(bucket).key(key))
+                .handle((head, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof S3Exception s3Error && s3Error.statusCode() == 404) {
+                        return false;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    // ETags are quoted hex digests, with a "-<parts>" suffix for multipart uploads
+    static String contentKey(String prefix, String sourceKey, String eTag) {
+        String digest = eTag.replace("\"", "");
+        int slash = sourceKey.lastIndexOf('/');
+        int dot = sourceKey.lastIndexOf('.');
+        String extension = dot > slash ? sourceKey.substring(dot) : "";
+        return prefix + "/" + digest + extension;
+    }
 }
@@ -0,0 +1,59 @@
+package com.docusign.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.docusign.dto.EmailMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process transport that accepts every batch without leaving the JVM.
+ * Enabled with {@code email.transport=stub} for local runs and offline
+ * throughput benchmarks; an optional per-call latency simulates the provider.
+ */
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "stub")
+@Slf4j
+public class StubEmailTransport implements EmailTransport {
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+
+    @Value("${email.transport.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${email.transport.stub.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Override
+    public void send(List<EmailMessage> batch) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        batches.incrementAndGet();
+        messages.addAndGet(batch.size());
+        log.debug("Stub transport accepted {} email(s)", batch.size());
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public long getMessageCount() {
+        return messages.get();
+    }
+}
@@ -0,0 +1,281 @@
+package com.docusign.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.docusign.dto.SpilledFieldValue;
+import com.docusign.dto.SubmissionPayload;
+import com.docusign.exception.PayloadTooLargeException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Parses a document submission ({@code token}, {@code userId},
+ * {@code fieldValues}) from the request body token by token. Size limits are
+ * enforced by the parser as it reads, so an oversized body is rejected before
+ * it is buffered. Base64 data-URL values longer than
+ * {@code field-values.offload.min-length} are decoded straight to a temp file
+ * and returned as {@link SpilledFieldValue}s; everything else is small and
+ * kept in the field map.
+ *
+ * <p>Jackson still buffers each string value whole before handing it to the
+ * spilling writer, so a request can hold up to
+ * {@code submission.max-value-chars} x 2 bytes of heap at once and the worst
+ * case is that times the number of concurrent submissions. The default of two
+ * million characters (about 4 MB, or 1.5 MB of decoded binary) keeps a full
+ * Tomcat pool of uploads under a gigabyte.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionReader {
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${submission.max-body-bytes:52428800}")
+    private long maxBodyBytes;
+
+    @Value("${submission.max-value-chars:2000000}")
+    private int maxValueChars;
+
+    @Value("${submission.max-fields:1000}")
+    private int maxFields;
+
+    @Value("${submission.max-nesting-depth:32}")
+    private int maxNestingDepth;
+
+    @Value("${field-values.offload.enabled:true}")
+    private boolean spillEnabled;
+
+    @Value("${field-values.offload.min-length:16384}")
+    private int spillMinLength;
+
+    private JsonFactory jsonFactory;
+
+    @PostConstruct
+    void init() {
+        jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxDocumentLength(maxBodyBytes)
+                        .maxStringLength(maxValueChars)
+                        .maxNestingDepth(maxNestingDepth)
+                        .build())
+                .build();
+    }
+
+    public SubmissionPayload read(InputStream body, long contentLength) throws IOException {
+        if (contentLength > maxBodyBytes) {
+            throw new PayloadTooLargeException("Submission exceeds " + maxBodyBytes + " bytes");
+        }
+
+        String token = null;
+        String userId = null;
+        Map<String, Object> fieldValues = null;
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Submission must be a JSON object");
+            }
+            try {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    switch (name) {
+                        case "token" -> token = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                        case "userId" -> userId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                        case "fieldValues" -> fieldValues = readFieldValues(parser, fieldValues);
+                        default -> parser.skipChildren();
+                    }
+                }
+            } catch (RuntimeException | IOException e) {
+                new SubmissionPayload(token, userId, fieldValues).close();
+                throw e;
+            }
+        } catch (StreamConstraintsException e) {
+            throw new PayloadTooLargeException("Submission too large: " + e.getOriginalMessage());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed submission: " + e.getOriginalMessage(), e);
+        }
+
+        return new SubmissionPayload(token, userId, fieldValues);
+    }
+
+    private Map<String, Object> readFieldValues(JsonParser parser, Map<String, Object> previous) throws IOException {
+        // A repeated fieldValues key would otherwise leak the first one's spill files
+        if (previous != null) {
+            new SubmissionPayload(null, null, previous).close();
+        }
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("fieldValues must be a JSON object");
+        }
+
+        Map<String, Object> fieldValues = new HashMap<>();
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (fieldValues.size() >= maxFields) {
+                    throw new PayloadTooLargeException("Submission has more than " + maxFields + " fields");
+                }
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                fieldValues.put(field, value == JsonToken.VALUE_STRING
+                        ? readString(parser)
+                        : objectMapper.readValue(parser, Object.class));
+            }
+        } catch (RuntimeException | IOException e) {
+            new SubmissionPayload(null, null, fieldValues).close();
+            throw e;
+        }
+        return fieldValues;
+    }
+
+    private Object readString(JsonParser parser) throws IOException {
+        if (!spillEnabled) {
+            return parser.getText();
+        }
+        try (SpillingWriter writer = new SpillingWriter(spillMinLength)) {
+            parser.getText(writer);
+            return writer.result();
+        }
+    }
+
+    /**
+     * Collects a string value in memory until it passes {@code threshold}
+     * characters. If it is a base64 data URL at that point, the rest is decoded
+     * to a temp file in chunks, hashing as it goes.
+     */
+    private static final class SpillingWriter extends Writer {
+
+        private static final int CHUNK_CHARS = 8192;
+
+        private final int threshold;
+        private StringBuilder text = new StringBuilder();
+        private boolean inline;
+
+        private Path file;
+        private OutputStream out;
+        private MessageDigest digest;
+        private String contentType;
+        private long size;
+        private final byte[] pending = new byte[CHUNK_CHARS];
+        private int pendingLength;
+
+        SpillingWriter(int threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            if (out != null) {
+                decode(chars, offset, length);
+                return;
+            }
+            text.append(chars, offset, length);
+            if (!inline && text.length() >= threshold) {
+                startSpillIfDataUrl();
+            }
+        }
+
+        private void startSpillIfDataUrl() throws IOException {
+            int marker = text.indexOf(BASE64_MARKER);
+            if (marker < 0 || !text.substring(0, DATA_URL_PREFIX.length()).equalsIgnoreCase(DATA_URL_PREFIX)) {
+                inline = true;
+                return;
+            }
+            contentType = marker > DATA_URL_PREFIX.length()
+                    ? text.substring(DATA_URL_PREFIX.length(), marker)
+                    : "application/octet-stream";
+            file = Files.createTempFile("submission-", ".bin");
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+            out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), digest);
+
+            char[] rest = text.substring(marker + BASE64_MARKER.length()).toCharArray();
+            text = null;
+            decode(rest, 0, rest.length);
+        }
+
+        // Base64 decodes in groups of 4 characters, so whole groups are decoded
+        // and any remainder waits for the next write
+        private void decode(char[] chars, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                char c = chars[i];
+                if (c == '\r' || c == '\n' || c == ' ') {
+                    continue;
+                }
+                pending[pendingLength++] = (byte) c;
+                if (pendingLength == CHUNK_CHARS) {
+                    flushPending();
+                }
+            }
+        }
+
+        private void flushPending() throws IOException {
+            byte[] decoded = Base64.getDecoder().decode(Arrays.copyOf(pending, pendingLength));
+            out.write(decoded);
+            size += decoded.length;
+            pendingLength = 0;
+        }
+
+        Object result() throws IOException {
+            if (out == null) {
+                return text.toString();
+            }
+            if (pendingLength > 0) {
+                flushPending();
+            }
+            out.close();
+            SpilledFieldValue spilled = new SpilledFieldValue(
+                    file, contentType, size, HexFormat.of().formatHex(digest.digest()));
+            file = null;
+            return spilled;
+        }
+
+        @Override
+        public void flush() {
+            // Data is flushed to the temp file in result()
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Only reached with a file still set if reading failed part way
+            if (file != null) {
+                out.close();
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -25,4 +25,10 @@ public interface UserService {
     public User update(String id, User user);
 
     public Optional<User> findByUserName(String userName);
+
+    /**
+     * Gives a user who has not logged in yet a new initial password and mails
+     * it. Returns false if there is no such user or they have logged in since.
+     */
+    public boolean reissueInitialPassword(String email);
 }
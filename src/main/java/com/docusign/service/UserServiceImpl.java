@@ -150,4 +150,18 @@ public class UserServiceImpl implements UserService {
     public Optional<User> findByUserName(String userName) {
         return userRepo.findByUserName(userName);
     }
+
+    @Override
+    public boolean reissueInitialPassword(String email) {
+        Optional<User> loUser = userRepo.findByEmail(email);
+        if (loUser.isEmpty() || !loUser.get().isFirstTimeLogin()) {
+            return false;
+        }
+        User user = loUser.get();
+        String plainPassword = generateRandomPassword(8);
+        user.setPassword(encoder.encode(plainPassword));
+        userRepo.save(user);
+        emailService.sendUserCreationMail(user, plainPassword);
+        return true;
+    }
 }
@@ -0,0 +1,275 @@
+package com.docusign.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.BulkPublishChunk;
+import com.docusign.entity.ConsolidatedValues;
+import com.docusign.entity.Designer;
+import com.docusign.entity.DocumentCompletion;
+import com.docusign.entity.EmailDeadLetter;
+import com.docusign.entity.EmailQueue;
+import com.docusign.entity.FinalDocumentNotification;
+import com.docusign.entity.TitleCounter;
+import com.docusign.entity.User;
+import com.docusign.support.MongoContainerSupport;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * Runs every repository query against MongoDB with the indexes declared on
+ * the entities, captures the commands the repositories actually send, and
+ * fails if the winning plan of any of them is a collection scan. Needs Docker;
+ * skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    private static final Set<String> EXPLAINABLE =
+            Set.of("find", "aggregate", "count", "distinct", "delete", "update", "findAndModify");
+
+    private static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+    private static MongoContainerSupport mongo;
+    private static MongoTemplate template;
+
+    private static UserRepo userRepo;
+    private static DesignerRepo designerRepo;
+    private static DocumentCompletionRepo completionRepo;
+    private static EmailRepo emailRepo;
+    private static EmailDeadLetterRepo deadLetterRepo;
+    private static ConsolidatedValuesRepo consolidatedValuesRepo;
+    private static TitleCounterRepo titleCounterRepo;
+    private static BulkPublishChunkRepo bulkPublishChunkRepo;
+    private static FinalDocumentNotificationRepo notificationRepo;
+
+    @BeforeAll
+    static void startMongo() {
+        mongo = new MongoContainerSupport("query_plan_test", new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (EXPLAINABLE.contains(event.getCommandName())) {
+                    commands.add(event.getCommand().clone());
+                }
+            }
+        });
+        template = mongo.template();
+        mongo.createIndexes(User.class, Designer.class, DocumentCompletion.class,
+                EmailQueue.class, EmailDeadLetter.class, ConsolidatedValues.class, TitleCounter.class,
+                BulkPublishChunk.class, FinalDocumentNotification.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+        userRepo = factory.getRepository(UserRepo.class);
+        designerRepo = factory.getRepository(DesignerRepo.class,
+                RepositoryFragments.just(new DesignerRepoCustomImpl(template)));
+        completionRepo = factory.getRepository(DocumentCompletionRepo.class,
+                RepositoryFragments.just(new DocumentCompletionRepoCustomImpl(template)));
+        emailRepo = factory.getRepository(EmailRepo.class,
+                RepositoryFragments.just(new EmailRepoCustomImpl(template)));
+        deadLetterRepo = factory.getRepository(EmailDeadLetterRepo.class);
+        consolidatedValuesRepo = factory.getRepository(ConsolidatedValuesRepo.class,
+                RepositoryFragments.just(new ConsolidatedValuesRepoCustomImpl(template)));
+        titleCounterRepo = factory.getRepository(TitleCounterRepo.class,
+                RepositoryFragments.just(new TitleCounterRepoCustomImpl(template)));
+        bulkPublishChunkRepo = factory.getRepository(BulkPublishChunkRepo.class,
+                RepositoryFragments.just(new BulkPublishChunkRepoCustomImpl(template)));
+        notificationRepo = factory.getRepository(FinalDocumentNotificationRepo.class,
+                RepositoryFragments.just(new FinalDocumentNotificationRepoCustomImpl(template)));
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongo.close();
+    }
+
+    @BeforeEach
+    void clearCapturedCommands() {
+        commands.clear();
+    }
+
+    @Test
+    void userQueriesUseIndexes() {
+        userRepo.findByUserName("jdoe");
+        userRepo.findByEmail("jdoe@example.com");
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void designerQueriesUseIndexes() {
+        designerRepo.findSummaries(List.of(AppConstants.STATUS_DRAFT, AppConstants.STATUS_PUBLISHED), null, null, 51);
+        designerRepo.findSummaries(List.of(AppConstants.STATUS_COMPLETED), Instant.now(), "designer-1", 51);
+        designerRepo.findSummaries(List.of(AppConstants.STATUS_COMPLETED), null, "designer-1", 51);
+        designerRepo.existsByTitle("NDA");
+        designerRepo.setExpectedCompletions("designer-1", 3);
+        designerRepo.incrementCompletedCount("designer-1", "completion-1");
+        designerRepo.markCompleted("designer-1");
+        designerRepo.updateStatus("designer-1", AppConstants.STATUS_PUBLISHED);
+        designerRepo.updateFields("designer-1", Map.of("pages", 3));
+        designerRepo.findTitlesWithBase("NDA (v2)");
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void titleCounterQueriesUseIndexes() {
+        titleCounterRepo.seed("NDA", 3);
+        titleCounterRepo.nextSuffix("NDA");
+        titleCounterRepo.raise("NDA", 5);
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void bulkPublishChunkQueriesUseIndexes() {
+        bulkPublishChunkRepo.claimNext("worker-1", Instant.now());
+        bulkPublishChunkRepo.markDone("chunk-1", "worker-1", 200, 0, Instant.now());
+        bulkPublishChunkRepo.markRetry("chunk-1", "worker-1", "timeout");
+        bulkPublishChunkRepo.markFailed("chunk-1", "worker-1", "timeout", Instant.now());
+        bulkPublishChunkRepo.releaseStaleClaims(Instant.now());
+        bulkPublishChunkRepo.tallyByJob("job-1");
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void finalDocumentNotificationQueriesUseIndexes() {
+        notificationRepo.findDueEmails(Instant.now(), 50, 100);
+        notificationRepo.claimForEmail("jane@example.com", "sweep-1", Instant.now(), 50);
+        notificationRepo.deleteClaimed(List.of("designer-1:jane@example.com"), "sweep-1");
+        notificationRepo.releaseClaimed(List.of("designer-1:jane@example.com"), "sweep-1");
+        notificationRepo.releaseStaleClaims(Instant.now());
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void documentCompletionQueriesUseIndexes() {
+        completionRepo.findByToken("token");
+        completionRepo.findByTokenAndUserId("token", "user-1");
+        completionRepo.findByDesignerIdAndUserId("designer-1", "user-1");
+        completionRepo.findByUserId("user-1");
+        completionRepo.countByDesignerIdAndStatus("designer-1", AppConstants.STATUS_COMPLETED);
+        completionRepo.findByDesignerId("designer-1");
+        completionRepo.findByDesignerIdIn(List.of("designer-1", "designer-2"));
+        completionRepo.findDistinctDesignerIds();
+        try (Stream<DocumentCompletion> stream = completionRepo.streamByDesignerId("designer-1", 100)) {
+            stream.count();
+        }
+        completionRepo.completeSubmission("token", "user-1", "designer-1", Map.of("field_1", "Jane"),
+                "designer-docs/designer-1/nda.pdf", Instant.now());
+        completionRepo.findStaleCaptures(Instant.now(), 100);
+        completionRepo.claimCapture("completion-1", Instant.now(), Instant.now());
+        completionRepo.markCaptured("completion-1", "capture-docs/abc.pdf");
+        completionRepo.markCaptureFailed("completion-1", "timeout", false);
+        completionRepo.isCountPending("completion-1");
+        completionRepo.findCountPending(Instant.now(), 100);
+        completionRepo.markCounted("completion-1", Instant.now());
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void emailOutboxQueriesUseIndexes() {
+        EmailQueue queued = new EmailQueue();
+        queued.setEmail("jdoe@example.com");
+        queued.setType(AppConstants.EMAIL_TYPE_OTP);
+        queued.setOtp("123456");
+        queued.setExpiresAt(LocalDateTime.now().plusMinutes(5));
+        queued.setStatus(AppConstants.EMAIL_STATUS_QUEUED);
+        queued.setNextAttemptAt(Instant.now().minusSeconds(1));
+        template.insert(queued);
+        commands.clear();
+
+        emailRepo.findTopByEmailAndTypeAndUsedFalseOrderByCreatedAtDesc("jdoe@example.com", AppConstants.EMAIL_TYPE_OTP);
+        emailRepo.findByTypeAndUsedFalseAndExpiresAtAfter(AppConstants.EMAIL_TYPE_OTP, LocalDateTime.now());
+        emailRepo.countByStatus(AppConstants.EMAIL_STATUS_QUEUED);
+        emailRepo.deleteByExpiresAtBefore(LocalDateTime.now().minusDays(1));
+        emailRepo.deleteByUsedTrue();
+
+        List<EmailQueue> claimed = emailRepo.claimBatch("worker-1", Instant.now(), 10);
+        List<ObjectId> ids = claimed.stream().map(EmailQueue::getObjectId).toList();
+        emailRepo.markRetry(ids, "worker-1", Instant.now(), "timeout");
+        emailRepo.markSent(ids, "worker-1", Instant.now());
+        emailRepo.markUsed(ids);
+        emailRepo.releaseStaleClaims(Instant.now());
+        emailRepo.moveToDeadLetters(claimed, "worker-1", "rejected");
+
+        assertNoCollectionScans();
+    }
+
+    @Test
+    void deadLetterAndConsolidatedValueQueriesUseIndexes() {
+        deadLetterRepo.findAllByOrderByFailedAtDesc();
+        consolidatedValuesRepo.findById("designer-1");
+        consolidatedValuesRepo.mergeValues("designer-1", Map.of("field_1", "Jane"));
+        consolidatedValuesRepo.replaceValues("designer-1", Map.of("field_1", "Jane"), 1);
+
+        assertNoCollectionScans();
+    }
+
+    private void assertNoCollectionScans() {
+        List<BsonDocument> captured = List.copyOf(commands);
+        assertFalse(captured.isEmpty(), "No queries were captured");
+
+        for (BsonDocument command : captured) {
+            BsonDocument explain = new BsonDocument("explain", withoutSessionFields(command))
+                    .append("verbosity", new BsonString("queryPlanner"));
+            BsonDocument plan = template.getDb().runCommand(explain, BsonDocument.class);
+            assertFalse(hasCollectionScan(plan), () -> "Collection scan for " + command.toJson()
+                    + "\nPlan: " + plan.toJson());
+        }
+    }
+
+    // explain rejects the driver's session and routing fields on the nested command
+    private static BsonDocument withoutSessionFields(BsonDocument command) {
+        BsonDocument copy = command.clone();
+        copy.keySet().removeIf(key -> key.startsWith("$") || key.equals("lsid") || key.equals("txnNumber"));
+        return copy;
+    }
+
+    private static boolean hasCollectionScan(BsonValue value) {
+        if (value.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (entry.getKey().equals("rejectedPlans")) {
+                    continue;
+                }
+                if (entry.getKey().equals("stage") && entry.getValue().isString()
+                        && entry.getValue().asString().getValue().equals("COLLSCAN")) {
+                    return true;
+                }
+                if (hasCollectionScan(entry.getValue())) {
+                    return true;
+                }
+            }
+        } else if (value.isArray()) {
+            for (BsonValue element : value.asArray()) {
+                if (hasCollectionScan(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
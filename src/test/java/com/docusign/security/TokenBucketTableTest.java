@@ -0,0 +1,75 @@
+package com.docusign.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final TokenBucketTable buckets = new TokenBucketTable(3, Duration.ofSeconds(3), 1024, 16);
+
+    @Test
+    void rejectsOnceCapacityIsSpentAndRefillsOverTime() {
+        assertTrue(buckets.tryAcquire("10.0.0.1", 0));
+        assertTrue(buckets.tryAcquire("10.0.0.1", 0));
+        assertTrue(buckets.tryAcquire("10.0.0.1", 0));
+        assertFalse(buckets.tryAcquire("10.0.0.1", 0));
+
+        assertTrue(buckets.tryAcquire("10.0.0.1", SECOND));
+        assertFalse(buckets.tryAcquire("10.0.0.1", SECOND));
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("alice", 0);
+        }
+        assertFalse(buckets.tryAcquire("alice", 0));
+        assertTrue(buckets.tryAcquire("bob", 0));
+    }
+
+    @Test
+    void collidingKeyGetsItsOwnBucket() {
+        // One set, so every key collides
+        TokenBucketTable shared = new TokenBucketTable(3, Duration.ofSeconds(3), 1, 1);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(shared.tryAcquire("victim", 0));
+        }
+
+        assertTrue(shared.tryAcquire("attacker", 0));
+        assertFalse(shared.tryAcquire("victim", 0));
+    }
+
+    @Test
+    void keyWithoutAFreeSlotCannotRefillAnother() {
+        TokenBucketTable shared = new TokenBucketTable(3, Duration.ofSeconds(3), 1, 1);
+        for (int way = 0; way < TokenBucketTable.WAYS; way++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(shared.tryAcquire("user-" + way, 0));
+            }
+        }
+
+        // Every slot is still refilling, so the newcomer only draws on them
+        assertFalse(shared.tryAcquire("attacker", 0));
+        assertFalse(shared.tryAcquire("user-0", 0));
+        assertTrue(shared.tryAcquire("user-0", SECOND));
+    }
+
+    @Test
+    void refilledSlotIsReused() {
+        TokenBucketTable shared = new TokenBucketTable(3, Duration.ofSeconds(3), 1, 1);
+        for (int way = 0; way < TokenBucketTable.WAYS; way++) {
+            assertTrue(shared.tryAcquire("user-" + way, 0));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(shared.tryAcquire("newcomer", 3 * SECOND));
+        }
+        assertFalse(shared.tryAcquire("newcomer", 3 * SECOND));
+    }
+}
@@ -0,0 +1,164 @@
+package com.docusign.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.dto.DocumentOpenView;
+import com.docusign.entity.ConsolidatedValues;
+import com.docusign.entity.Designer;
+import com.docusign.entity.DocumentCompletion;
+import com.docusign.entity.User;
+import com.docusign.repository.ConsolidatedValuesRepo;
+import com.docusign.repository.ConsolidatedValuesRepoCustomImpl;
+import com.docusign.repository.DesignerRepo;
+import com.docusign.repository.DesignerRepoCustomImpl;
+import com.docusign.repository.DocumentCompletionRepo;
+import com.docusign.repository.DocumentCompletionRepoCustomImpl;
+import com.docusign.repository.UserRepo;
+import com.docusign.support.MongoContainerSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Latency of opening a document from an emailed completion link
+ * ({@code GET /api/documents/complete/{token}}), minus token signing: the
+ * single-pass {@code openDocument} against the previous sequence, which read
+ * the completion twice. Presigning runs locally and never calls S3. Needs
+ * Docker for the MongoDB container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class DocumentOpenBenchmark {
+
+    private static final int FIELDS = 40;
+
+    @Param({"internal", "external"})
+    private String recipient;
+
+    private MongoContainerSupport mongo;
+    private DocumentCompletionRepo completionRepo;
+    private DesignerRepo designerRepo;
+    private UserRepo userRepo;
+    private S3Service s3Service;
+    private ConsolidatedValuesService consolidatedValuesService;
+    private DocumentCompletionService completionService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        mongo = new MongoContainerSupport("document_open_bench");
+        MongoTemplate template = mongo.template();
+        mongo.createIndexes(User.class, Designer.class, DocumentCompletion.class, ConsolidatedValues.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+        userRepo = factory.getRepository(UserRepo.class);
+        designerRepo = factory.getRepository(DesignerRepo.class,
+                RepositoryFragments.just(new DesignerRepoCustomImpl(template)));
+        completionRepo = factory.getRepository(DocumentCompletionRepo.class,
+                RepositoryFragments.just(new DocumentCompletionRepoCustomImpl(template)));
+        ConsolidatedValuesRepo consolidatedValuesRepo = factory.getRepository(ConsolidatedValuesRepo.class,
+                RepositoryFragments.just(new ConsolidatedValuesRepoCustomImpl(template)));
+
+        s3Service = new S3Service("us-east-1", "bench", "bench", "", 100, 64, 8);
+        ReflectionTestUtils.setField(s3Service, "bucket", "bench-bucket");
+        ReflectionTestUtils.setField(s3Service, "presignMinutes", 15L);
+
+        FieldValueOffloader fieldValueOffloader = new FieldValueOffloader(s3Service);
+        consolidatedValuesService = new ConsolidatedValuesServiceImpl(consolidatedValuesRepo, completionRepo,
+                fieldValueOffloader);
+        completionService = new DocumentCompletionServiceImpl(completionRepo, designerRepo, userRepo,
+                null, s3Service, null, null, consolidatedValuesService, new ObjectMapper(), null,
+                fieldValueOffloader);
+
+        User user = new User();
+        user.setId(new ObjectId());
+        user.setUserName("jdoe");
+        user.setEmail("jdoe@example.com");
+        userRepo.save(user);
+
+        List<Map<String, Object>> fields = new ArrayList<>(FIELDS);
+        for (int i = 0; i < FIELDS; i++) {
+            fields.add(Map.of("id", "field_" + i, "type", "text", "page", 1, "x", i * 10, "y", i * 20));
+        }
+        Designer designer = new Designer();
+        designer.setId(UUID.randomUUID().toString());
+        designer.setTitle("Master Services Agreement");
+        designer.setS3Key("designer-docs/" + designer.getId() + "/msa.pdf");
+        designer.setFields(fields);
+        designer.setStatus(AppConstants.STATUS_PUBLISHED);
+        designerRepo.save(designer);
+
+        boolean external = recipient.equals("external");
+        DocumentCompletion completion = new DocumentCompletion();
+        completion.setDesignerId(designer.getId());
+        completion.setUserId(external ? "guest@example.com" : user.getId());
+        completion.setExternal(external);
+        completion.setToken(UUID.randomUUID().toString());
+        completion.setStatus(AppConstants.STATUS_PENDING);
+        completionRepo.save(completion);
+        token = completion.getToken();
+
+        consolidatedValuesRepo.replaceValues(designer.getId(), Map.of("field_0", "Jane Doe"), 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopMongo() {
+        mongo.close();
+    }
+
+    @Benchmark
+    public DocumentOpenView singlePass() {
+        return completionService.openDocument(token);
+    }
+
+    @Benchmark
+    public Object legacyOpenPath() {
+        // The old controller flow: getDocumentForCompletion, then the completion
+        // fetched again, then the user for internal recipients
+        DocumentCompletion completion = completionRepo.findByToken(token).orElseThrow();
+        Designer designer = designerRepo.findById(completion.getDesignerId()).orElseThrow();
+        String viewUrl = s3Service.generatePresignedGetUrl(designer.getS3Key());
+        Map<String, Object> consolidated = consolidatedValuesService.getConsolidatedValues(designer.getId());
+
+        DocumentCompletion refetched = completionRepo.findByToken(token).orElseThrow();
+        if (!refetched.isExternal()) {
+            return userRepo.findById(refetched.getUserId()).orElseThrow();
+        }
+        return List.of(viewUrl, consolidated);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DocumentOpenBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.docusign.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.docusign.constants.EmailTemplates;
+import com.docusign.dto.EmailMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Renders and serializes a document-completion fan-out the way the email path
+ * used to (String.format plus a new ObjectMapper per email) and the way it does
+ * now (precompiled templates plus a shared writer).
+ *
+ * <p>Run with {@code mvn test-compile} and then the {@link #main} method from
+ * the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final String FROM = "noreply@example.com";
+
+    @Param({"1000", "10000", "100000"})
+    private int fanOut;
+
+    private EmailTemplateEngine engine;
+    private ResendPayloadWriter payloadWriter;
+    private String[] emails;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        engine = new EmailTemplateEngine();
+        payloadWriter = new ResendPayloadWriter(new ObjectMapper());
+        emails = new String[fanOut];
+        names = new String[fanOut];
+        for (int i = 0; i < fanOut; i++) {
+            emails[i] = "signer" + i + "@example.com";
+            names[i] = "Signer " + i;
+        }
+    }
+
+    @Benchmark
+    public void formatAndNewMapper(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < fanOut; i++) {
+            String body = String.format(
+                    EmailTemplates.DOCUMENT_COMPLETION_BODY_TEMPLATE,
+                    names[i], "Employment Agreement", link(i));
+            ObjectMapper mapper = new ObjectMapper();
+            blackhole.consume(mapper.writeValueAsString(Map.of(
+                    "from", FROM,
+                    "to", List.of(emails[i]),
+                    "subject", EmailTemplates.DOCUMENT_COMPLETION_SUBJECT,
+                    "text", body)));
+        }
+    }
+
+    @Benchmark
+    public void compiledTemplateAndSharedWriter(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < fanOut; i++) {
+            String body = engine.render(
+                    EmailTemplateEngine.Template.DOCUMENT_COMPLETION_BODY,
+                    names[i], "Employment Agreement", link(i));
+            blackhole.consume(payloadWriter.write(FROM, new EmailMessage(
+                    null, emails[i], EmailTemplates.DOCUMENT_COMPLETION_SUBJECT, body)));
+        }
+    }
+
+    private static String link(int i) {
+        return "https://app.example.com/documents/complete/" + i + "?isExternal=false";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,51 @@
+package com.docusign.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.docusign.constants.EmailTemplates;
+
+class EmailTemplateEngineTest {
+
+    private final EmailTemplateEngine engine = new EmailTemplateEngine();
+
+    @Test
+    void rendersLikeStringFormat() {
+        assertEquals(
+                String.format(EmailTemplates.OTP_BODY_TEMPLATE, "123456"),
+                engine.render(EmailTemplateEngine.Template.OTP_BODY, "123456"));
+        assertEquals(
+                String.format(EmailTemplates.USER_CREATION_BODY_TEMPLATE, "Jane Doe", "jdoe", "p@ss%word"),
+                engine.render(EmailTemplateEngine.Template.USER_CREATION_BODY, "Jane Doe", "jdoe", "p@ss%word"));
+        assertEquals(
+                String.format(EmailTemplates.DOCUMENT_COMPLETION_BODY_TEMPLATE, "User", "NDA", "https://app/doc"),
+                engine.render(EmailTemplateEngine.Template.DOCUMENT_COMPLETION_BODY, "User", "NDA", "https://app/doc"));
+        assertEquals(
+                String.format(EmailTemplates.FINAL_DOCUMENT_SUBJECT, "NDA"),
+                engine.render(EmailTemplateEngine.Template.FINAL_DOCUMENT_SUBJECT, "NDA"));
+        assertEquals(
+                String.format(EmailTemplates.FINAL_DOCUMENT_BODY_TEMPLATE, null, "NDA", "https://app/final"),
+                engine.render(EmailTemplateEngine.Template.FINAL_DOCUMENT_BODY, null, "NDA", "https://app/final"));
+    }
+
+    @Test
+    void compilesEscapedPercent() {
+        CompiledTemplate template = CompiledTemplate.compile("100%% of %s");
+        StringBuilder out = new StringBuilder();
+        template.renderTo(out, "signers");
+        assertEquals("100% of signers", out.toString());
+    }
+
+    @Test
+    void rejectsWrongArgumentCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.render(EmailTemplateEngine.Template.OTP_BODY, "1", "2"));
+    }
+
+    @Test
+    void rejectsUnsupportedSpecifiers() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("%d items"));
+    }
+}
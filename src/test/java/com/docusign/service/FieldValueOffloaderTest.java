@@ -0,0 +1,102 @@
+package com.docusign.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FieldValueOffloaderTest {
+
+    private final Map<String, byte[]> stored = new HashMap<>();
+    private int uploads;
+    private FieldValueOffloader offloader;
+
+    @BeforeEach
+    void setUp() {
+        S3Service s3Service = new S3Service("us-east-1", "test", "test", "", 100, 64, 8) {
+            @Override
+            public boolean objectExists(String key) {
+                return stored.containsKey(key);
+            }
+
+            @Override
+            public void putObject(String key, byte[] content, String contentType) {
+                uploads++;
+                stored.put(key, content);
+            }
+
+            @Override
+            public String generatePresignedGetUrl(String key) {
+                return "https://bucket.example.com/" + key + "?signed";
+            }
+        };
+        offloader = new FieldValueOffloader(s3Service);
+        ReflectionTestUtils.setField(offloader, "enabled", true);
+        ReflectionTestUtils.setField(offloader, "minLength", 1024);
+    }
+
+    @Test
+    void largeDataUrlIsStoredAndReplacedByReference() {
+        byte[] png = randomBytes(4096);
+        Map<String, Object> values = Map.of(
+                "signature", "data:image/png;base64," + Base64.getEncoder().encodeToString(png),
+                "name", "Jane Doe");
+
+        Map<String, Object> offloaded = offloader.offload(values);
+
+        assertEquals("Jane Doe", offloaded.get("name"));
+        assertTrue(FieldValueOffloader.isReference(offloaded.get("signature")));
+        Map<?, ?> reference = (Map<?, ?>) offloaded.get("signature");
+        assertEquals("image/png", reference.get(FieldValueOffloader.CONTENT_TYPE));
+        assertEquals((long) png.length, reference.get(FieldValueOffloader.SIZE));
+        assertTrue(((String) reference.get(FieldValueOffloader.STORAGE_KEY)).startsWith("field-values/"));
+        assertArrayEquals(png, stored.get(reference.get(FieldValueOffloader.STORAGE_KEY)));
+    }
+
+    @Test
+    void repeatedSignatureIsUploadedOnce() {
+        String signature = "data:image/png;base64," + Base64.getEncoder().encodeToString(randomBytes(4096));
+
+        Map<?, ?> first = (Map<?, ?>) offloader.offload(Map.of("signature", signature)).get("signature");
+        Map<?, ?> second = (Map<?, ?>) offloader.offload(Map.of("initials", signature)).get("initials");
+
+        assertEquals(first.get(FieldValueOffloader.STORAGE_KEY), second.get(FieldValueOffloader.STORAGE_KEY));
+        assertEquals(1, uploads);
+    }
+
+    @Test
+    void smallDataUrlsAndPlainTextStayInline() {
+        Map<String, Object> values = Map.of(
+                "tick", "data:image/png;base64,iVBORw0KGgo=",
+                "notes", "x".repeat(4096));
+
+        assertEquals(values, offloader.offload(values));
+        assertEquals(0, uploads);
+    }
+
+    @Test
+    void referencesResolveToPresignedUrls() {
+        String signature = "data:image/png;base64," + Base64.getEncoder().encodeToString(randomBytes(4096));
+        Map<String, Object> offloaded = offloader.offload(Map.of("signature", signature, "name", "Jane"));
+
+        Map<String, Object> resolved = offloader.resolve(offloaded);
+
+        String key = (String) ((Map<?, ?>) offloaded.get("signature")).get(FieldValueOffloader.STORAGE_KEY);
+        assertEquals("https://bucket.example.com/" + key + "?signed", resolved.get("signature"));
+        assertEquals("Jane", resolved.get("name"));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
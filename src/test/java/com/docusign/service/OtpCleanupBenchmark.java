@@ -0,0 +1,130 @@
+package com.docusign.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.EmailQueue;
+import com.docusign.support.MongoContainerSupport;
+
+/**
+ * Cost of one OTP cleanup pass against an {@code emails} collection of
+ * growing size, each pass removing the same 100 used OTPs. The indexed bulk
+ * delete should stay flat; the old findAll-and-delete pass grows with the
+ * collection. Needs Docker for the MongoDB container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OtpCleanupBenchmark {
+
+    private static final int USED_PER_PASS = 100;
+    private static final int SEED_CHUNK = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int collectionSize;
+
+    private MongoContainerSupport mongo;
+    private MongoTemplate template;
+
+    @Setup(Level.Trial)
+    public void startMongo() {
+        mongo = new MongoContainerSupport("otp_cleanup_bench");
+        template = mongo.template();
+        template.dropCollection(EmailQueue.class);
+        mongo.createIndexes(EmailQueue.class);
+
+        List<EmailQueue> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < collectionSize; i++) {
+            // Sent notification mail: no expiry, never used, survives cleanup
+            chunk.add(email("user" + i + "@example.com", false, null));
+            if (chunk.size() == SEED_CHUNK) {
+                template.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        template.insertAll(chunk);
+    }
+
+    @Setup(Level.Iteration)
+    public void seedUsedOtps() {
+        List<EmailQueue> used = new ArrayList<>(USED_PER_PASS);
+        for (int i = 0; i < USED_PER_PASS; i++) {
+            used.add(email("otp" + i + "@example.com", true, LocalDateTime.now().plusMinutes(5)));
+        }
+        template.insertAll(used);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopMongo() {
+        mongo.close();
+    }
+
+    @Benchmark
+    public long indexedBulkDelete() {
+        // Same deleteMany that EmailRepo.deleteByUsedTrue issues
+        return template.remove(new Query(where("used").is(true)), EmailQueue.class).getDeletedCount();
+    }
+
+    @Benchmark
+    public long legacyScanAndDelete() {
+        // Streams instead of findAll so the 1M case fits the fork's heap; the
+        // reads and per-row deletes are the same as the old scheduled job
+        long deleted = 0;
+        try (Stream<EmailQueue> emails = template.stream(new Query(), EmailQueue.class)) {
+            for (EmailQueue email : (Iterable<EmailQueue>) emails::iterator) {
+                boolean expired = email.getExpiresAt() != null && email.getExpiresAt().isBefore(LocalDateTime.now());
+                if (expired || email.isUsed()) {
+                    template.remove(email);
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private static EmailQueue email(String address, boolean used, LocalDateTime expiresAt) {
+        EmailQueue email = new EmailQueue();
+        email.setEmail(address);
+        email.setType(used ? AppConstants.EMAIL_TYPE_OTP : AppConstants.EMAIL_TYPE_DOCUMENT_COMPLETION);
+        email.setSubject("subject");
+        email.setBody("body");
+        email.setUsed(used);
+        email.setExpiresAt(expiresAt);
+        email.setStatus(AppConstants.EMAIL_STATUS_SENT);
+        return email;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OtpCleanupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.docusign.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+/**
+ * Runs the copier against LocalStack's S3. Needs Docker; skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3MultipartCopierTest {
+
+    private static final String BUCKET = "copier-test";
+    private static final long PART_SIZE = S3MultipartCopier.MIN_PART_SIZE;
+
+    private static LocalStackContainer localStack;
+    private static S3AsyncClient s3;
+
+    @BeforeAll
+    static void startLocalStack() throws Exception {
+        localStack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+                .withServices(LocalStackContainer.Service.S3);
+        localStack.start();
+
+        s3 = S3AsyncClient.builder()
+                .endpointOverride(localStack.getEndpoint())
+                .region(Region.of(localStack.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+                .forcePathStyle(true)
+                .build();
+        s3.createBucket(b -> b.bucket(BUCKET)).get();
+    }
+
+    @AfterAll
+    static void stopLocalStack() {
+        s3.close();
+        localStack.stop();
+    }
+
+    @Test
+    void copiesSmallObjectInOneRequest() throws Exception {
+        byte[] content = put("small.pdf", 1024);
+
+        new S3MultipartCopier(s3, PART_SIZE, PART_SIZE, 4).copy(BUCKET, "small.pdf", "small-copy.pdf").get();
+
+        assertArrayEquals(content, get("small-copy.pdf"));
+    }
+
+    @Test
+    void copiesLargeObjectInParts() throws Exception {
+        // Three full parts and a short last one, two in flight at a time
+        byte[] content = put("large.pdf", (int) (3 * PART_SIZE + 12345));
+
+        new S3MultipartCopier(s3, PART_SIZE, PART_SIZE, 2).copy(BUCKET, "large.pdf", "large-copy.pdf").get();
+
+        assertArrayEquals(content, get("large-copy.pdf"));
+    }
+
+    @Test
+    void failsWhenSourceIsMissing() throws Exception {
+        S3MultipartCopier copier = new S3MultipartCopier(s3, PART_SIZE, PART_SIZE, 2);
+
+        assertThrows(ExecutionException.class, () -> copier.copy(BUCKET, "missing.pdf", "missing-copy.pdf").get());
+        assertTrue(s3.listMultipartUploads(b -> b.bucket(BUCKET)).get().uploads().isEmpty());
+    }
+
+    private static byte[] put(String key, int size) throws Exception {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        s3.putObject(b -> b.bucket(BUCKET).key(key), AsyncRequestBody.fromBytes(content)).get();
+        return content;
+    }
+
+    private static byte[] get(String key) throws Exception {
+        return s3.getObject(b -> b.bucket(BUCKET).key(key), AsyncResponseTransformer.toBytes()).get().asByteArray();
+    }
+}
@@ -0,0 +1,27 @@
+package com.docusign.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class S3ServiceTest {
+
+    @Test
+    void contentKeyIsDerivedFromETagAndKeepsExtension() {
+        assertEquals("capture-docs/9b2cf535f27731c974343645a3985328.pdf",
+                S3Service.contentKey("capture-docs", "designer-docs/d1/contract.pdf",
+                        "\"9b2cf535f27731c974343645a3985328\""));
+    }
+
+    @Test
+    void sameContentMapsToSameKeyAcrossDesigners() {
+        String eTag = "\"3858f62230ac3c915f300c664312c11f-4\"";
+        assertEquals(S3Service.contentKey("capture-docs", "designer-docs/d1/scan.pdf", eTag),
+                S3Service.contentKey("capture-docs", "designer-docs/d2/scan.pdf", eTag));
+    }
+
+    @Test
+    void contentKeyWithoutExtension() {
+        assertEquals("capture-docs/abc", S3Service.contentKey("capture-docs", "designer-docs/v1.2/scan", "\"abc\""));
+    }
+}
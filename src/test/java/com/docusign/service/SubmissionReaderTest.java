@@ -0,0 +1,108 @@
+package com.docusign.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.docusign.dto.SpilledFieldValue;
+import com.docusign.dto.SubmissionPayload;
+import com.docusign.exception.PayloadTooLargeException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SubmissionReaderTest {
+
+    private final SubmissionReader reader = new SubmissionReader(new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        configure(1_000_000L);
+    }
+
+    @Test
+    void readsMetadataAndSpillsLargeDataUrls() throws Exception {
+        byte[] png = new byte[100_001];
+        new Random(7).nextBytes(png);
+        String json = "{\"token\":\"t-1\",\"ignored\":{\"a\":[1,2]},\"fieldValues\":{"
+                + "\"signature\":\"data:image/png;base64," + Base64.getEncoder().encodeToString(png) + "\","
+                + "\"name\":\"Jane\",\"count\":3,\"options\":[\"a\",\"b\"],"
+                + "\"notes\":\"" + "x".repeat(5000) + "\"},\"userId\":\"u-1\"}";
+
+        Path spilledFile;
+        try (SubmissionPayload submission = read(json)) {
+            assertEquals("t-1", submission.token());
+            assertEquals("u-1", submission.userId());
+            assertEquals("Jane", submission.fieldValues().get("name"));
+            assertEquals(3, submission.fieldValues().get("count"));
+            assertEquals(List.of("a", "b"), submission.fieldValues().get("options"));
+            assertEquals("x".repeat(5000), submission.fieldValues().get("notes"));
+
+            SpilledFieldValue signature = (SpilledFieldValue) submission.fieldValues().get("signature");
+            assertEquals("image/png", signature.contentType());
+            assertEquals(png.length, signature.size());
+            assertArrayEquals(png, Files.readAllBytes(signature.file()));
+            assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png)),
+                    signature.sha256());
+            spilledFile = signature.file();
+        }
+        assertFalse(Files.exists(spilledFile));
+    }
+
+    @Test
+    void rejectsBodiesOverTheLimitWhileReading() {
+        configure(1_000L);
+        String json = "{\"fieldValues\":{\"notes\":\"" + "x".repeat(2_000) + "\"}}";
+
+        assertThrows(PayloadTooLargeException.class, () -> read(json));
+        assertThrows(PayloadTooLargeException.class,
+                () -> reader.read(new ByteArrayInputStream(new byte[0]), 2_000));
+    }
+
+    @Test
+    void rejectsTooManyFields() {
+        StringBuilder json = new StringBuilder("{\"fieldValues\":{");
+        for (int i = 0; i <= 10; i++) {
+            json.append(i > 0 ? "," : "").append("\"f").append(i).append("\":1");
+        }
+        json.append("}}");
+
+        assertThrows(PayloadTooLargeException.class, () -> read(json.toString()));
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThrows(IllegalArgumentException.class, () -> read("{\"fieldValues\":{\"a\":"));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> read("[]"))
+                .getMessage().contains("JSON object"));
+    }
+
+    private void configure(long maxBodyBytes) {
+        ReflectionTestUtils.setField(reader, "maxBodyBytes", maxBodyBytes);
+        ReflectionTestUtils.setField(reader, "maxValueChars", 500_000);
+        ReflectionTestUtils.setField(reader, "maxFields", 10);
+        ReflectionTestUtils.setField(reader, "maxNestingDepth", 32);
+        ReflectionTestUtils.setField(reader, "spillEnabled", true);
+        ReflectionTestUtils.setField(reader, "spillMinLength", 16_384);
+        reader.init();
+    }
+
+    // Content length unknown, as with a chunked request, so only the parser's limits apply
+    private SubmissionPayload read(String json) throws Exception {
+        return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), -1);
+    }
+}
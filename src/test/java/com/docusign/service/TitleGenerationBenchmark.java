@@ -0,0 +1,118 @@
+package com.docusign.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import com.docusign.constants.AppConstants;
+import com.docusign.entity.Designer;
+import com.docusign.entity.TitleCounter;
+import com.docusign.repository.DesignerRepo;
+import com.docusign.repository.DesignerRepoCustomImpl;
+import com.docusign.repository.TitleCounterRepo;
+import com.docusign.repository.TitleCounterRepoCustomImpl;
+import com.docusign.support.MongoContainerSupport;
+
+/**
+ * Cost of creating an "Untitled" designer when "Untitled" and
+ * "Untitled (1)" to "Untitled (9999)" already exist: the counter-based
+ * {@code saveDesignerDocument} against the previous existsByTitle loop, which
+ * probed every taken suffix in turn. Both insert the new designer. Needs
+ * Docker for the MongoDB container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TitleGenerationBenchmark {
+
+    private static final int EXISTING = 10_000;
+
+    private MongoContainerSupport mongo;
+    private DesignerRepo designerRepo;
+    private DesignerService designerService;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        mongo = new MongoContainerSupport("title_generation_bench");
+        MongoTemplate template = mongo.template();
+        template.dropCollection(Designer.class);
+        template.dropCollection(TitleCounter.class);
+        mongo.createIndexes(Designer.class, TitleCounter.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+        designerRepo = factory.getRepository(DesignerRepo.class,
+                RepositoryFragments.just(new DesignerRepoCustomImpl(template)));
+        TitleCounterRepo titleCounterRepo = factory.getRepository(TitleCounterRepo.class,
+                RepositoryFragments.just(new TitleCounterRepoCustomImpl(template)));
+        designerService = new DesignerServiceImpl(designerRepo, null, null, titleCounterRepo, null);
+
+        List<Designer> designers = new ArrayList<>(EXISTING);
+        designers.add(designer(AppConstants.DEFAULT_TITLE));
+        for (int i = 1; i < EXISTING; i++) {
+            designers.add(designer(String.format("%s (%d)", AppConstants.DEFAULT_TITLE, i)));
+        }
+        template.insertAll(designers);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopMongo() {
+        mongo.close();
+    }
+
+    @Benchmark
+    public Designer counter() {
+        return designerService.saveDesignerDocument(Map.of("title", AppConstants.DEFAULT_TITLE));
+    }
+
+    @Benchmark
+    public Designer legacyExistsLoop() {
+        // The generateUniqueTitle loop this replaced, one existsByTitle per taken suffix
+        String title = AppConstants.DEFAULT_TITLE;
+        if (designerRepo.existsByTitle(title)) {
+            int counter = 1;
+            do {
+                title = String.format("%s (%d)", AppConstants.DEFAULT_TITLE, counter++);
+            } while (designerRepo.existsByTitle(title));
+        }
+        return designerRepo.save(designer(title));
+    }
+
+    private static Designer designer(String title) {
+        Designer designer = new Designer();
+        designer.setId(UUID.randomUUID().toString());
+        designer.setTitle(title);
+        designer.setStatus(AppConstants.STATUS_DRAFT);
+        designer.setType("Document");
+        return designer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TitleGenerationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,54 @@
+package com.docusign.support;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.testcontainers.containers.MongoDBContainer;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+
+/**
+ * Throwaway MongoDB (same image as docker-compose.yml) for benchmarks and tests
+ * that run outside a Spring context. Indexes are created from the entity annotations,
+ * exactly as {@code spring.data.mongodb.auto-index-creation} does at startup.
+ */
+public class MongoContainerSupport implements AutoCloseable {
+
+    private final MongoDBContainer container = new MongoDBContainer("mongo:6.0");
+    private final MongoClient client;
+    private final MongoTemplate template;
+
+    public MongoContainerSupport(String database, CommandListener... listeners) {
+        container.start();
+        MongoClientSettings.Builder settings = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(container.getReplicaSetUrl()));
+        for (CommandListener listener : listeners) {
+            settings.addCommandListener(listener);
+        }
+        client = MongoClients.create(settings.build());
+        template = new MongoTemplate(client, database);
+    }
+
+    public MongoTemplate template() {
+        return template;
+    }
+
+    public void createIndexes(Class<?>... entityTypes) {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(template.getConverter().getMappingContext());
+        for (Class<?> entityType : entityTypes) {
+            IndexOperations indexOps = template.indexOps(entityType);
+            resolver.resolveIndexFor(entityType).forEach(indexOps::createIndex);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        container.stop();
+    }
+}